@@ -95,6 +95,18 @@ public native function <string mainString> replace (string replacePattern, strin
 @Return { value:"The split string array" }
 public native function <string mainString> split (string regex) (string[]);
 
+@Description { value:"Returns a Boolean value indicating whether the whole string matches the given regular expression"}
+@Param { value:"mainString: The original string argument" }
+@Param { value:"regex: The regular expression to match against" }
+@Return { value:"True if the string matches the regular expression; false otherwise" }
+public native function <string mainString> matches (string regex) (boolean);
+
+@Description { value:"Returns all the substrings of the string that match the given regular expression, in order"}
+@Param { value:"mainString: The original string argument" }
+@Param { value:"regex: The regular expression to search for" }
+@Return { value:"The matching substrings" }
+public native function <string mainString> findAll (string regex) (string[]);
+
 @Description { value:"Converts string to a blob"}
 @Param { value:"mainString: string value to be converted" }
 @Param { value:"encoding: Encoding to used in the conversion" }
@@ -34,15 +34,15 @@ public native function base64ToBase16Encode (string baseString) (string);
 public native function base64encode (string s) (string);
 
 @Description { value:"Returns a hash of a given string in Base64 format using the key provided "}
-@Param { value:"baseString: The string to be hashed" }
-@Param { value:"keyString: The key string " }
+@Param { value:"baseString: The string to be hashed, encoded as UTF-8" }
+@Param { value:"keyString: The Base64 encoded key string, decoded to obtain the key bytes" }
 @Param { value:"algorithm: The hashing algorithm to be used" }
 @Return { value:"The hashed string" }
 public native function getHmacFromBase64 (string baseString, string keyString, string algorithm) (string);
 
 @Description { value:"Returns a hash of a given string using the key provided "}
-@Param { value:"baseString: The string to be hashed" }
-@Param { value:"keyString: The key string " }
+@Param { value:"baseString: The string to be hashed, encoded as UTF-8" }
+@Param { value:"keyString: The key string, encoded as UTF-8 to obtain the key bytes" }
 @Param { value:"algorithm: The hashing algorithm to be used" }
 @Return { value:"The hashed string" }
 public native function getHmac (string baseString, string keyString, string algorithm) (string);
@@ -94,45 +94,45 @@ public class SQLDataIterator implements DataIterator {
     }
 
     @Override
-    public String getString(String columnName) {
+    public String getString(int columnIndex) {
         try {
-            return rs.getString(columnName);
+            return rs.getString(columnIndex);
         } catch (SQLException e) {
             throw new BallerinaException(e.getMessage(), e);
         }
     }
 
     @Override
-    public long getInt(String columnName) {
+    public long getInt(int columnIndex) {
         try {
-            return rs.getLong(columnName);
+            return rs.getLong(columnIndex);
         } catch (SQLException e) {
             throw new BallerinaException(e.getMessage(), e);
         }
     }
 
     @Override
-    public double getFloat(String columnName) {
+    public double getFloat(int columnIndex) {
         try {
-            return rs.getDouble(columnName);
+            return rs.getDouble(columnIndex);
         } catch (SQLException e) {
             throw new BallerinaException(e.getMessage(), e);
         }
     }
 
     @Override
-    public boolean getBoolean(String columnName) {
+    public boolean getBoolean(int columnIndex) {
         try {
-            return rs.getBoolean(columnName);
+            return rs.getBoolean(columnIndex);
         } catch (SQLException e) {
             throw new BallerinaException(e.getMessage(), e);
         }
     }
 
     @Override
-    public String getBlob(String columnName) {
+    public String getBlob(int columnIndex) {
         try {
-            Blob bValue = rs.getBlob(columnName);
+            Blob bValue = rs.getBlob(columnIndex);
             return SQLDatasourceUtils.getString(bValue);
         } catch (SQLException e) {
             throw new BallerinaException(e.getMessage(), e);
@@ -140,10 +140,10 @@ public class SQLDataIterator implements DataIterator {
     }
 
     @Override
-    public Map<String, Object> getArray(String columnName) {
+    public Map<String, Object> getArray(int columnIndex) {
         Map<String, Object> resultMap = new HashMap<>();
         try {
-            Array array = rs.getArray(columnName);
+            Array array = rs.getArray(columnIndex);
             if (!rs.wasNull()) {
                 Object[] objArray = (Object[]) array.getArray();
                 for (int i = 0; i < objArray.length; i++) {
@@ -165,15 +165,19 @@ public class SQLDataIterator implements DataIterator {
         int booleanRegIndex = -1;
         int blobRegIndex = -1;
         int refRegIndex = -1;
+        int columnIndex = 0;
         try {
+            // Column definitions are in the order of the result set columns, so values are read by index
+            // rather than making the driver resolve the column name for every value of every row.
             for (ColumnDefinition columnDef : columnDefs) {
+                ++columnIndex;
                 if (columnDef instanceof SQLColumnDefinition) {
                     SQLColumnDefinition def = (SQLColumnDefinition) columnDef;
                     String columnName = def.getName();
                     int sqlType = def.getSqlType();
                     switch (sqlType) {
                     case Types.ARRAY:
-                        BMap<String, BValue> bMapvalue = getDataArray(columnName);
+                        BMap<String, BValue> bMapvalue = getDataArray(columnIndex);
                         bStruct.setRefField(++refRegIndex, bMapvalue);
                         break;
                     case Types.CHAR:
@@ -182,14 +186,14 @@ public class SQLDataIterator implements DataIterator {
                     case Types.NCHAR:
                     case Types.NVARCHAR:
                     case Types.LONGNVARCHAR:
-                        String sValue = rs.getString(columnName);
+                        String sValue = rs.getString(columnIndex);
                         bStruct.setStringField(++stringRegIndex, sValue);
                         break;
                     case Types.BLOB:
                     case Types.BINARY:
                     case Types.VARBINARY:
                     case Types.LONGVARBINARY:
-                        Blob value = rs.getBlob(columnName);
+                        Blob value = rs.getBlob(columnIndex);
                         if (value != null) {
                             bStruct.setBlobField(++blobRegIndex, value.getBytes(1L, (int) value.length()));
                         } else {
@@ -197,54 +201,54 @@ public class SQLDataIterator implements DataIterator {
                         }
                         break;
                     case Types.CLOB:
-                        String clobValue = SQLDatasourceUtils.getString((rs.getClob(columnName)));
+                        String clobValue = SQLDatasourceUtils.getString((rs.getClob(columnIndex)));
                         bStruct.setStringField(++stringRegIndex, clobValue);
                         break;
                     case Types.NCLOB:
-                        String nClobValue = SQLDatasourceUtils.getString(rs.getNClob(columnName));
+                        String nClobValue = SQLDatasourceUtils.getString(rs.getNClob(columnIndex));
                         bStruct.setStringField(++stringRegIndex, nClobValue);
                         break;
                     case Types.DATE:
-                        String dateValue = SQLDatasourceUtils.getString(rs.getDate(columnName));
+                        String dateValue = SQLDatasourceUtils.getString(rs.getDate(columnIndex));
                         bStruct.setStringField(++stringRegIndex, dateValue);
                         break;
                     case Types.TIME:
                     case Types.TIME_WITH_TIMEZONE:
-                        String timeValue = SQLDatasourceUtils.getString(rs.getTime(columnName, utcCalendar));
+                        String timeValue = SQLDatasourceUtils.getString(rs.getTime(columnIndex, utcCalendar));
                         bStruct.setStringField(++stringRegIndex, timeValue);
                         break;
                     case Types.TIMESTAMP:
                     case Types.TIMESTAMP_WITH_TIMEZONE:
-                        String timestmpValue = SQLDatasourceUtils.getString(rs.getTimestamp(columnName, utcCalendar));
+                        String timestmpValue = SQLDatasourceUtils.getString(rs.getTimestamp(columnIndex, utcCalendar));
                         bStruct.setStringField(++stringRegIndex, timestmpValue);
                         break;
                     case Types.ROWID:
-                        BValue strValue = new BString(new String(rs.getRowId(columnName).getBytes(), "UTF-8"));
+                        BValue strValue = new BString(new String(rs.getRowId(columnIndex).getBytes(), "UTF-8"));
                         bStruct.setStringField(++stringRegIndex, strValue.stringValue());
                         break;
                     case Types.TINYINT:
                     case Types.SMALLINT:
-                        long iValue = rs.getInt(columnName);
+                        long iValue = rs.getInt(columnIndex);
                         bStruct.setIntField(++longRegIndex, iValue);
                         break;
                     case Types.INTEGER:
                     case Types.BIGINT:
-                        long lValue = rs.getLong(columnName);
+                        long lValue = rs.getLong(columnIndex);
                         bStruct.setIntField(++longRegIndex, lValue);
                         break;
                     case Types.REAL:
                     case Types.FLOAT:
-                        double fValue = rs.getFloat(columnName);
+                        double fValue = rs.getFloat(columnIndex);
                         bStruct.setFloatField(++doubleRegIndex, fValue);
                         break;
                     case Types.DOUBLE:
-                        double dValue = rs.getDouble(columnName);
+                        double dValue = rs.getDouble(columnIndex);
                         bStruct.setFloatField(++doubleRegIndex, dValue);
                         break;
                     case Types.NUMERIC:
                     case Types.DECIMAL:
                         double decimalValue = 0;
-                        BigDecimal bigDecimalValue = rs.getBigDecimal(columnName);
+                        BigDecimal bigDecimalValue = rs.getBigDecimal(columnIndex);
                         if (bigDecimalValue != null) {
                             decimalValue = bigDecimalValue.doubleValue();
                         }
@@ -252,7 +256,7 @@ public class SQLDataIterator implements DataIterator {
                         break;
                     case Types.BIT:
                     case Types.BOOLEAN:
-                        boolean boolValue = rs.getBoolean(columnName);
+                        boolean boolValue = rs.getBoolean(columnIndex);
                         bStruct.setBooleanField(++booleanRegIndex, boolValue ? 1 : 0);
                         break;
                     default:
@@ -274,8 +278,8 @@ public class SQLDataIterator implements DataIterator {
         return this.columnDefs;
     }
 
-    private BMap<String, BValue> getDataArray(String columnName) {
-        Map<String, Object> arrayMap = getArray(columnName);
+    private BMap<String, BValue> getDataArray(int columnIndex) {
+        Map<String, Object> arrayMap = getArray(columnIndex);
         BMap<String, BValue> returnMap = new BMap<>();
         if (!arrayMap.isEmpty()) {
             for (Map.Entry<String, Object> entry : arrayMap.entrySet()) {
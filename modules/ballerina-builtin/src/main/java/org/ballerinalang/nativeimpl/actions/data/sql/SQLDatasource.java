@@ -34,8 +34,8 @@ import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Locale;
-import java.util.Set;
 import java.util.UUID;
 import javax.sql.XADataSource;
 
@@ -354,8 +354,8 @@ public class SQLDatasource implements BValue {
 
 
     private void setDataSourceProperties(BMap options, HikariConfig config) {
-        Set<String> keySet = options.keySet();
-        for (String key : keySet) {
+        List<String> keys = options.keys();
+        for (String key : keys) {
             BValue value = options.get(key);
             if (value instanceof BString) {
                 config.addDataSourceProperty(key, value.stringValue());
@@ -28,7 +28,7 @@ import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import java.util.Set;
+import java.util.List;
 
 /**
  * Native function to get key arrays from the map.
@@ -45,10 +45,10 @@ public class GetKeys extends AbstractNativeFunction {
 
     public BValue[] execute(Context ctx) {
         BMap<String, BValue> map = (BMap<String, BValue>) getRefArgument(ctx, 0);
-        Set<String> keySet = map.keySet();
+        List<String> keys = map.keys();
         BStringArray keyArray = new BStringArray();
         int i = 0;
-        for (String key : keySet) {
+        for (String key : keys) {
             keyArray.add(i++, key);
         }
         return getBValues(keyArray);
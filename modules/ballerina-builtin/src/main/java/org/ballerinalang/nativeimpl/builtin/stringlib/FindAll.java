@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.nativeimpl.builtin.stringlib;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.regex.Matcher;
+
+/**
+ * Native function ballerina.model.strings:findAll.
+ *
+ * @since 0.95.1
+ */
+@BallerinaFunction(
+        packageName = "ballerina.builtin",
+        functionName = "string.findAll",
+        args = {@Argument(name = "mainString", type = TypeKind.STRING),
+                @Argument(name = "regex", type = TypeKind.STRING)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY, elementType = TypeKind.STRING)},
+        isPublic = true
+)
+public class FindAll extends AbstractNativeFunction {
+
+    @Override
+    public BValue[] execute(Context context) {
+        String mainString = getStringArgument(context, 0);
+        String regex = getStringArgument(context, 1);
+
+        BStringArray matches = new BStringArray();
+        Matcher matcher = PatternCache.getPattern(regex).matcher(mainString);
+        int index = 0;
+        while (matcher.find()) {
+            matches.add(index++, matcher.group());
+        }
+        return getBValues(matches);
+    }
+}
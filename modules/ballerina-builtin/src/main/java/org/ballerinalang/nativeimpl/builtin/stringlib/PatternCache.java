@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.nativeimpl.builtin.stringlib;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded LRU cache of compiled regular expressions shared by the string natives, so that a pattern used over and
+ * over (e.g. once per line of a log) is compiled only once.
+ *
+ * @since 0.95.1
+ */
+final class PatternCache {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private static final Map<String, Pattern> patterns = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private PatternCache() {
+    }
+
+    /**
+     * Returns the compiled form of the given regular expression.
+     *
+     * @param regex regular expression
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid
+     */
+    static Pattern getPattern(String regex) {
+        synchronized (patterns) {
+            Pattern pattern = patterns.get(regex);
+            if (pattern != null) {
+                return pattern;
+            }
+        }
+        // Compile outside the lock; a concurrent miss on the same expression only costs a duplicate compile.
+        Pattern pattern = Pattern.compile(regex);
+        synchronized (patterns) {
+            patterns.put(regex, pattern);
+        }
+        return pattern;
+    }
+}
@@ -49,7 +49,7 @@ public class ReplaceAll extends AbstractNativeFunction {
         String replacePattern = getStringArgument(context, 1);
         String replaceWith = getStringArgument(context, 2);
 
-        String replacedString = mainString.replaceAll(replacePattern, replaceWith);
+        String replacedString = PatternCache.getPattern(replacePattern).matcher(mainString).replaceAll(replaceWith);
         return getBValues(new BString(replacedString));
     }
 }
@@ -49,7 +49,7 @@ public class ReplaceFirst extends AbstractNativeFunction {
         String replacePattern = getStringArgument(context, 1);
         String replaceWith = getStringArgument(context, 2);
 
-        String replacedString = mainString.replaceFirst(replacePattern, replaceWith);
+        String replacedString = PatternCache.getPattern(replacePattern).matcher(mainString).replaceFirst(replaceWith);
         return getBValues(new BString(replacedString));
     }
 }
@@ -45,7 +45,7 @@ public class Split extends AbstractNativeFunction {
         String initialString = getStringArgument(context, 0);
         String regex = getStringArgument(context, 1);
 
-        String[] splitArray = initialString.split(regex);
+        String[] splitArray = PatternCache.getPattern(regex).split(initialString);
         BStringArray bSplitArray = new BStringArray(splitArray);
         return getBValues(bSplitArray);
     }
@@ -20,8 +20,8 @@ package org.ballerinalang.nativeimpl.task;
 
 import org.ballerinalang.nativeimpl.task.appointment.Appointment;
 import org.ballerinalang.nativeimpl.task.timer.Timer;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Maintains timers and appointments (Appointment support will be available in the future).
@@ -29,8 +29,8 @@ import java.util.Map;
 public class TaskRegistry {
 
     private static TaskRegistry instance = new TaskRegistry();
-    private Map<String, Timer> timers = new HashMap<>();
-    private Map<String, Appointment> appointments = new HashMap<>();
+    private Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private Map<String, Appointment> appointments = new ConcurrentHashMap<>();
 
     private TaskRegistry() {
     }
@@ -40,10 +40,14 @@ public class TaskRegistry {
     }
 
     public void stopTask(String taskId) throws Exception {
-        if (timers.containsKey(taskId)) {
-            timers.get(taskId).stop();
-        } else if (appointments.containsKey(taskId)) {
-            appointments.get(taskId).stop();
+        Timer timer = timers.get(taskId);
+        if (timer != null) {
+            timer.stop();
+            return;
+        }
+        Appointment appointment = appointments.get(taskId);
+        if (appointment != null) {
+            appointment.stop();
         }
     }
 
@@ -66,9 +70,7 @@ public class TaskRegistry {
     }
 
     public void remove(String taskId) {
-        if (timers.containsKey(taskId)) {
-            timers.remove(taskId);
-        } else if (appointments.containsKey(taskId)) {
+        if (timers.remove(taskId) == null) {
             appointments.remove(taskId);
         }
     }
@@ -26,4 +26,7 @@ public class AppointmentConstants {
     public static final String BALLERINA_PARENT_CONTEXT = "ballerina.parent.context";
     public static final String BALLERINA_ON_TRIGGER_FUNCTION = "ballerina.onTriggerFunction";
     public static final String BALLERINA_ON_ERROR_FUNCTION = "ballerina.onErrorFunction";
+
+    // Configuration of how missed appointment triggers are handled, see MisfirePolicy
+    public static final String MISFIRE_POLICY_CONFIG = "ballerina.task.appointment.misfirePolicy";
 }
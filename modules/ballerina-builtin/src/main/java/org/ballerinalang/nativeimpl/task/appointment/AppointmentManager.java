@@ -19,6 +19,7 @@
 package org.ballerinalang.nativeimpl.task.appointment;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.util.codegen.cpentries.FunctionRefCPEntry;
 import org.quartz.CronTrigger;
@@ -29,8 +30,11 @@ import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
-import java.util.HashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.quartz.CronScheduleBuilder.cronSchedule;
 import static org.quartz.JobBuilder.newJob;
@@ -40,13 +44,17 @@ import static org.quartz.TriggerBuilder.newTrigger;
  * Manages appointments.
  */
 public class AppointmentManager {
+    private static final Logger log = LoggerFactory.getLogger(AppointmentManager.class);
     private static final AppointmentManager instance = new AppointmentManager();
 
     // Ballerina task ID to Quart JobKey map
-    private Map<String, JobKey> quartzJobs = new HashMap<>();
+    private Map<String, JobKey> quartzJobs = new ConcurrentHashMap<>();
 
     private Scheduler scheduler;
 
+    // Read once, the configuration does not change while the program runs
+    private final MisfirePolicy misfirePolicy = loadMisfirePolicy();
+
     private AppointmentManager() {
         try {
             scheduler = new StdSchedulerFactory().getScheduler();
@@ -60,6 +68,17 @@ public class AppointmentManager {
         return instance;
     }
 
+    private static MisfirePolicy loadMisfirePolicy() {
+        String configValue = ConfigRegistry.getInstance()
+                .getGlobalConfigValue(AppointmentConstants.MISFIRE_POLICY_CONFIG);
+        try {
+            return MisfirePolicy.fromConfigValue(configValue);
+        } catch (IllegalArgumentException e) {
+            log.error(e.getMessage() + ", the default misfire policy is used");
+            return MisfirePolicy.DEFAULT;
+        }
+    }
+
     void schedule(String taskId, AbstractNativeFunction fn, Class<? extends Job> jobClass,
                   Context balParentContext, FunctionRefCPEntry onTriggerFunction,
                   FunctionRefCPEntry onErrorFunction, String cronExpression) throws SchedulerException {
@@ -71,7 +90,7 @@ public class AppointmentManager {
         JobDetail job = newJob(jobClass).usingJobData(jobData).withIdentity(taskId).build();
 
         CronTrigger trigger =
-                newTrigger().withIdentity(taskId).withSchedule(cronSchedule(cronExpression))
+                newTrigger().withIdentity(taskId).withSchedule(misfirePolicy.apply(cronSchedule(cronExpression)))
                         .build();
 
         scheduler.scheduleJob(job, trigger);
@@ -79,9 +98,10 @@ public class AppointmentManager {
     }
 
     public void stop(String taskId) {
-        if (quartzJobs.containsKey(taskId)) {
+        JobKey jobKey = quartzJobs.remove(taskId);
+        if (jobKey != null) {
             try {
-                scheduler.deleteJob(quartzJobs.get(taskId));
+                scheduler.deleteJob(jobKey);
             } catch (SchedulerException e) {
                 throw new RuntimeException("Stopping appointment with ID " + taskId + " failed", e);
             }
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.nativeimpl.task.appointment;
+
+import org.quartz.CronScheduleBuilder;
+
+/**
+ * How cron triggers missed while the scheduler was busy or paused are handled. The policy is set for all
+ * appointments through {@link AppointmentConstants#MISFIRE_POLICY_CONFIG}.
+ */
+public enum MisfirePolicy {
+
+    /**
+     * The Quartz smart policy, used when no policy is configured. It fires a missed cron trigger once.
+     */
+    DEFAULT(null),
+
+    /**
+     * Fires once for all missed triggers and then proceeds with the schedule.
+     */
+    FIRE_ONCE("fireOnce"),
+
+    /**
+     * Skips missed triggers and waits for the next scheduled one.
+     */
+    SKIP("skip"),
+
+    /**
+     * Fires for every missed trigger.
+     */
+    FIRE_ALL("fireAll");
+
+    private final String configValue;
+
+    MisfirePolicy(String configValue) {
+        this.configValue = configValue;
+    }
+
+    /**
+     * Returns the policy for the given configuration value.
+     *
+     * @param configValue configured value, or null if the policy is not configured
+     * @return misfire policy
+     * @throws IllegalArgumentException if the value does not name a policy
+     */
+    public static MisfirePolicy fromConfigValue(String configValue) {
+        if (configValue == null || configValue.isEmpty()) {
+            return DEFAULT;
+        }
+        for (MisfirePolicy policy : values()) {
+            if (configValue.equals(policy.configValue)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("invalid value '" + configValue + "' for "
+                + AppointmentConstants.MISFIRE_POLICY_CONFIG);
+    }
+
+    /**
+     * Applies this policy to the given cron schedule.
+     *
+     * @param scheduleBuilder cron schedule of an appointment
+     * @return the schedule with this policy applied
+     */
+    public CronScheduleBuilder apply(CronScheduleBuilder scheduleBuilder) {
+        switch (this) {
+            case FIRE_ONCE:
+                return scheduleBuilder.withMisfireHandlingInstructionFireAndProceed();
+            case SKIP:
+                return scheduleBuilder.withMisfireHandlingInstructionDoNothing();
+            case FIRE_ALL:
+                return scheduleBuilder.withMisfireHandlingInstructionIgnoreMisfires();
+            default:
+                return scheduleBuilder;
+        }
+    }
+}
@@ -26,19 +26,41 @@ import org.ballerinalang.nativeimpl.task.TaskExecutor;
 import org.ballerinalang.nativeimpl.task.TaskIdGenerator;
 import org.ballerinalang.nativeimpl.task.TaskRegistry;
 import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.util.codegen.ProgramFile;
 import org.ballerinalang.util.codegen.cpentries.FunctionRefCPEntry;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a timer.
+ * <p>
+ * All the timers share a single scheduler thread, which only hands the trigger functions over to the Ballerina
+ * worker executor. The next execution is scheduled once the previous one completes, so a slow trigger function
+ * delays the timer instead of piling up executions.
  */
 public class Timer {
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ballerina-task-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicLong ACTIVE_TIMERS = new AtomicLong();
+    private static final AtomicLong FIRED_COUNT = new AtomicLong();
+    private static final AtomicLong LATE_COUNT = new AtomicLong();
+
     private String id = TaskIdGenerator.generate();
-    private ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
     private Context context;
+    private long interval;
+    private Runnable schedulerFunc;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private volatile ScheduledFuture<?> nextExecution;
+    private volatile long nextExecutionTime;
 
     /**
      * Triggers the timer.
@@ -53,17 +75,50 @@ public class Timer {
                  FunctionRefCPEntry onTriggerFunction,
                  FunctionRefCPEntry onErrorFunction) throws SchedulingException {
 
-        if (delay < 0 || interval < 0) {
-            throw new SchedulingException("Timer scheduling delay and interval should be non-negative values");
+        if (delay < 0 || interval <= 0) {
+            throw new SchedulingException("Timer scheduling delay should be a non-negative value and interval " +
+                    "should be a positive value");
         }
 
-        final Runnable schedulerFunc = () -> {
-            callTriggerFunction(fn, ctx, onTriggerFunction, onErrorFunction);
+        this.interval = interval;
+        this.schedulerFunc = () -> {
+            try {
+                callTriggerFunction(fn, ctx, onTriggerFunction, onErrorFunction);
+            } finally {
+                scheduleNext(this.interval);
+            }
         };
         ctx.startTrackWorker();
         this.context = ctx;
-        executorService.scheduleWithFixedDelay(schedulerFunc, delay, interval, TimeUnit.MILLISECONDS);
         TaskRegistry.getInstance().addTimer(this);
+        ACTIVE_TIMERS.incrementAndGet();
+        scheduleNext(delay);
+    }
+
+    private void scheduleNext(long delay) {
+        if (stopped.get()) {
+            return;
+        }
+        nextExecutionTime = System.currentTimeMillis() + delay;
+        nextExecution = SCHEDULER.schedule(this::dispatch, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void dispatch() {
+        if (stopped.get()) {
+            return;
+        }
+        if (System.currentTimeMillis() - nextExecutionTime > interval) {
+            // A whole interval was missed, the scheduler or the worker executor is overloaded.
+            LATE_COUNT.incrementAndGet();
+        }
+        try {
+            ThreadPoolFactory.getInstance().getWorkerExecutor().execute(schedulerFunc);
+            FIRED_COUNT.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            // Skip this execution rather than queueing up missed ones.
+            LATE_COUNT.incrementAndGet();
+            scheduleNext(interval);
+        }
     }
 
     /**
@@ -87,10 +142,27 @@ public class Timer {
     }
 
     public void stop() throws TaskException {
-        executorService.shutdown();
+        if (!stopped.compareAndSet(false, true)) {
+            return;
+        }
+        ScheduledFuture<?> execution = nextExecution;
+        if (execution != null) {
+            execution.cancel(false);
+        }
+        ACTIVE_TIMERS.decrementAndGet();
         TaskRegistry.getInstance().remove(id);
         context.endTrackWorker();
     }
 
+    public static long getActiveTimerCount() {
+        return ACTIVE_TIMERS.get();
+    }
 
+    public static long getFiredCount() {
+        return FIRED_COUNT.get();
+    }
+
+    public static long getLateCount() {
+        return LATE_COUNT.get();
+    }
 }
@@ -26,9 +26,10 @@ import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.HashUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -60,6 +61,10 @@ public class GetHash extends AbstractNativeFunction {
                 break;
             case "SHA256": algorithm = "SHA-256";
                 break;
+            case "SHA384": algorithm = "SHA-384";
+                break;
+            case "SHA512": algorithm = "SHA-512";
+                break;
             case "MD5":
                 break;
             default:
@@ -69,28 +74,13 @@ public class GetHash extends AbstractNativeFunction {
 
         String result;
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(baseString.getBytes("UTF-8"));
-            byte[] bytes = messageDigest.digest();
-
-            final char[] hexArray = "0123456789ABCDEF".toCharArray();
-            char[] hexChars = new char[bytes.length * 2];
-
-            for (int j = 0; j < bytes.length; j++) {
-                final int byteVal = bytes[j] & 0xFF;
-                hexChars[j * 2] = hexArray[byteVal >>> 4];
-                hexChars[j * 2 + 1] = hexArray[byteVal & 0x0F];
-            }
-
-            result = new String(hexChars);
+            MessageDigest messageDigest = HashUtils.getMessageDigest(algorithm);
+            result = HashUtils.toHexString(messageDigest.digest(baseString.getBytes(StandardCharsets.UTF_8)));
 
         } catch (NoSuchAlgorithmException e) {
             throw new BallerinaException(
                     "Error while calculating HMAC for " + algorithm + ": " + e.getMessage(),
                     context);
-        } catch (UnsupportedEncodingException e) {
-            throw new BallerinaException("Error while encoding" + e.getMessage(), context);
         }
 
         return getBValues(new BString(result));
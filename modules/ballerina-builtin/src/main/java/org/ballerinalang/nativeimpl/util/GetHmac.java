@@ -29,12 +29,10 @@ import org.ballerinalang.natives.annotations.ReturnType;
 import org.ballerinalang.util.HashUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import javax.crypto.Mac;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 
 /**
  * Native function ballerina.util:getHmac.
@@ -69,6 +67,12 @@ public class GetHmac extends AbstractNativeFunction {
             case "SHA256":
                 hmacAlgorithm = "HmacSHA256";
                 break;
+            case "SHA384":
+                hmacAlgorithm = "HmacSHA384";
+                break;
+            case "SHA512":
+                hmacAlgorithm = "HmacSHA512";
+                break;
             case "MD5":
                 hmacAlgorithm = "HmacMD5";
                 break;
@@ -78,11 +82,9 @@ public class GetHmac extends AbstractNativeFunction {
 
         String result;
         try {
-            byte[] keyBytes = keyString.getBytes(Charset.defaultCharset());
-            SecretKey secretKey = new SecretKeySpec(keyBytes, hmacAlgorithm);
-            Mac mac = Mac.getInstance(hmacAlgorithm);
-            mac.init(secretKey);
-            byte[] baseStringBytes = baseString.getBytes(Charset.defaultCharset());
+            byte[] keyBytes = keyString.getBytes(StandardCharsets.UTF_8);
+            Mac mac = HashUtils.getMac(hmacAlgorithm, keyBytes);
+            byte[] baseStringBytes = baseString.getBytes(StandardCharsets.UTF_8);
             result = HashUtils.toHexString(mac.doFinal(baseStringBytes));
         } catch (IllegalArgumentException | InvalidKeyException | NoSuchAlgorithmException e) {
             throw new BallerinaException("Error while calculating HMAC for " + hmacAlgorithm + ": " + e.getMessage(),
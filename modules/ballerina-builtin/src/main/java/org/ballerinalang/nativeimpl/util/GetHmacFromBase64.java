@@ -26,15 +26,14 @@ import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.HashUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import javax.crypto.Mac;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 
 /**
  * Native function ballerina.util:getHmacFromBase64.
@@ -66,6 +65,12 @@ public class GetHmacFromBase64 extends AbstractNativeFunction {
             case "SHA256":
                 hmacAlgorithm = "HmacSHA256";
                 break;
+            case "SHA384":
+                hmacAlgorithm = "HmacSHA384";
+                break;
+            case "SHA512":
+                hmacAlgorithm = "HmacSHA512";
+                break;
             case "MD5":
                 hmacAlgorithm = "HmacMD5";
                 break;
@@ -76,14 +81,10 @@ public class GetHmacFromBase64 extends AbstractNativeFunction {
 
         String result = "";
         try {
-            byte[] keyBytes =
-                    Base64.getDecoder().decode(keyString.getBytes(Charset.defaultCharset()));
-            SecretKey secretKey = new SecretKeySpec(keyBytes, hmacAlgorithm);
-            Mac mac = Mac.getInstance(hmacAlgorithm);
-            mac.init(secretKey);
-            byte[] baseStringBytes = baseString.getBytes(Charset.defaultCharset());
-            result = new String(Base64.getEncoder().encode(mac.doFinal(baseStringBytes)),
-                                Charset.defaultCharset());
+            byte[] keyBytes = Base64.getDecoder().decode(keyString);
+            Mac mac = HashUtils.getMac(hmacAlgorithm, keyBytes);
+            byte[] baseStringBytes = baseString.getBytes(StandardCharsets.UTF_8);
+            result = Base64.getEncoder().encodeToString(mac.doFinal(baseStringBytes));
         } catch (IllegalArgumentException | InvalidKeyException | NoSuchAlgorithmException e) {
             throw new BallerinaException(
                     "Error while calculating HMAC for " + hmacAlgorithm + ": " + e.getMessage(),
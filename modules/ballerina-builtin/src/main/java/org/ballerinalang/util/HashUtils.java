@@ -15,13 +15,26 @@
  */
 package org.ballerinalang.util;
 
-import java.util.Formatter;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 
 /**
  * @since 0.95.1
  */
 public class HashUtils {
 
+    private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+    // Message digests and MACs are not thread safe, and looking them up through the providers is expensive, so
+    // each thread keeps one instance per algorithm.
+    private static final ThreadLocal<Map<String, MessageDigest>> digests = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Mac>> macs = ThreadLocal.withInitial(HashMap::new);
+
     private HashUtils() {
 
     }
@@ -33,10 +46,52 @@ public class HashUtils {
      * @return Hex formatted string.
      */
     public static String toHexString(byte[] bytes) {
-        Formatter hexStringFormatter = new Formatter();
-        for (byte b : bytes) {
-            hexStringFormatter.format("%02X", b);
+        char[] hexChars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int byteVal = bytes[i] & 0xFF;
+            hexChars[i * 2] = HEX_CHARS[byteVal >>> 4];
+            hexChars[i * 2 + 1] = HEX_CHARS[byteVal & 0x0F];
+        }
+        return new String(hexChars);
+    }
+
+    /**
+     * Returns a reset message digest for the given algorithm, owned by the calling thread.
+     *
+     * @param algorithm JCA name of the digest algorithm, e.g. SHA-256
+     * @return message digest which must not be shared with other threads
+     * @throws NoSuchAlgorithmException if the algorithm is not available
+     */
+    public static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> threadDigests = digests.get();
+        MessageDigest messageDigest = threadDigests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            threadDigests.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Returns a MAC for the given algorithm initialized with the given key, owned by the calling thread.
+     *
+     * @param algorithm JCA name of the MAC algorithm, e.g. HmacSHA256
+     * @param key       key bytes
+     * @return initialized MAC which must not be shared with other threads
+     * @throws NoSuchAlgorithmException if the algorithm is not available
+     * @throws InvalidKeyException      if the key is not valid for the algorithm
+     * @throws IllegalArgumentException if the key is empty
+     */
+    public static Mac getMac(String algorithm, byte[] key) throws NoSuchAlgorithmException, InvalidKeyException {
+        Map<String, Mac> threadMacs = macs.get();
+        Mac mac = threadMacs.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            threadMacs.put(algorithm, mac);
         }
-        return hexStringFormatter.toString();
+        mac.init(new SecretKeySpec(key, algorithm));
+        return mac;
     }
 }
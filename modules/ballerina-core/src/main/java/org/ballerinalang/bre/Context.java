@@ -21,7 +21,6 @@ import org.ballerinalang.bre.bvm.ControlStackNew;
 import org.ballerinalang.bre.bvm.WorkerCounter;
 import org.ballerinalang.connector.impl.BServerConnectorFuture;
 import org.ballerinalang.model.values.BStruct;
-import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.codegen.ActionInfo;
 import org.ballerinalang.util.codegen.ProgramFile;
 import org.ballerinalang.util.codegen.ServiceInfo;
@@ -55,11 +54,10 @@ public class Context {
 
     protected WorkerCounter workerCounter;
 
-    // TODO : Temporary solution to make non-blocking working.
-    public BValue[] nativeArgValues;
     public ProgramFile programFile;
-    public FunctionCallCPEntry funcCallCPEntry;
-    public ActionInfo actionInfo;
+    // Native action and call site this context is suspended on, while a non-blocking action is in progress.
+    private ActionInfo suspendedActionInfo;
+    private FunctionCallCPEntry suspendedFuncCallCPEntry;
     private String threadId;
     // TODO : Fix this. Added this for fork-join. Issue #3718.
     public boolean blockingInvocation;
@@ -191,6 +189,38 @@ public class Context {
         return programFile;
     }
 
+    /**
+     * Suspend this context on a non-blocking native action. The thread executing the context is released and
+     * the context is resumed from its start IP once the action completes.
+     *
+     * @param actionInfo      native action being invoked.
+     * @param funcCallCPEntry call site of the action, holding the return registers of the caller.
+     */
+    public void suspend(ActionInfo actionInfo, FunctionCallCPEntry funcCallCPEntry) {
+        this.suspendedActionInfo = actionInfo;
+        this.suspendedFuncCallCPEntry = funcCallCPEntry;
+    }
+
+    /**
+     * Clear the suspended state of this context.
+     */
+    public void resume() {
+        this.suspendedActionInfo = null;
+        this.suspendedFuncCallCPEntry = null;
+    }
+
+    public boolean isSuspended() {
+        return this.suspendedActionInfo != null;
+    }
+
+    public ActionInfo getSuspendedActionInfo() {
+        return suspendedActionInfo;
+    }
+
+    public FunctionCallCPEntry getSuspendedFuncCallCPEntry() {
+        return suspendedFuncCallCPEntry;
+    }
+
     /**
      * start tracking current worker.
      */
@@ -119,6 +119,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
@@ -140,6 +141,8 @@ public class BLangVM {
     // Instruction pointer;
     private int ip = 0;
     private Instruction[] code;
+    // Whether this run released the thread by suspending the context on a non-blocking action.
+    private boolean suspended;
 
     private StructureType globalMemBlock;
 
@@ -165,22 +168,21 @@ public class BLangVM {
         this.controlStack = context.getControlStackNew();
         this.ip = context.getStartIP();
 
+        // Resuming after a non-blocking action completed.
+        ActionInfo suspendedActionInfo = context.getSuspendedActionInfo();
+        FunctionCallCPEntry suspendedFuncCallCPEntry = context.getSuspendedFuncCallCPEntry();
+        context.resume();
+        this.suspended = false;
+
         if (context.getError() != null) {
             handleError();
-        } else if (isWaitingOnNonBlockingAction()) {
-            // // TODO : Temporary to solution make non-blocking working.
-            BType[] retTypes = context.actionInfo.getRetParamTypes();
+        } else if (suspendedActionInfo != null) {
+            BType[] retTypes = suspendedActionInfo.getRetParamTypes();
             StackFrame calleeSF = controlStack.popFrame();
             this.constPool = controlStack.currentFrame.packageInfo.getConstPoolEntries();
             this.code = controlStack.currentFrame.packageInfo.getInstructions();
-            handleReturnFromNativeCallableUnit(controlStack.currentFrame, context.funcCallCPEntry.getRetRegs(),
+            handleReturnFromNativeCallableUnit(controlStack.currentFrame, suspendedFuncCallCPEntry.getRetRegs(),
                     calleeSF.returnValues, retTypes);
-
-            // TODO Remove
-            //prepareStructureTypeFromNativeAction(context.nativeArgValues);
-            context.nativeArgValues = null;
-            context.funcCallCPEntry = null;
-            context.actionInfo = null;
         }
 
         try {
@@ -195,7 +197,7 @@ public class BLangVM {
             context.setError(BLangVMErrors.createError(context, ip, message));
             handleError();
         } finally {
-            if (!isWaitingOnNonBlockingAction() || context.getError() != null) {
+            if (!suspended || context.getError() != null) {
                 // end of the active worker from the VM. ( graceful or forced exit on unhandled error. )
                 // Doesn't count non-blocking action invocation.
                 ctx.endTrackWorker();
@@ -222,6 +224,7 @@ public class BLangVM {
         int i;
         int j;
         int k;
+        int lvIndex; // Index of the local variable
         int cpIndex; // Index of the constant pool
         FunctionCallCPEntry funcCallCPEntry;
         FunctionRefCPEntry funcRefCPEntry;
@@ -327,11 +330,36 @@ public class BLangVM {
                     break;
 
                 case InstructionCodes.ILOAD:
+                    lvIndex = operands[0];
+                    i = operands[1];
+                    sf.longRegs[i] = sf.longLocalVars[lvIndex];
+                    break;
                 case InstructionCodes.FLOAD:
+                    lvIndex = operands[0];
+                    i = operands[1];
+                    sf.doubleRegs[i] = sf.doubleLocalVars[lvIndex];
+                    break;
                 case InstructionCodes.SLOAD:
+                    lvIndex = operands[0];
+                    i = operands[1];
+                    sf.stringRegs[i] = sf.stringLocalVars[lvIndex];
+                    break;
                 case InstructionCodes.BLOAD:
+                    lvIndex = operands[0];
+                    i = operands[1];
+                    sf.intRegs[i] = sf.intLocalVars[lvIndex];
+                    break;
                 case InstructionCodes.LLOAD:
+                    lvIndex = operands[0];
+                    i = operands[1];
+                    sf.byteRegs[i] = sf.byteLocalVars[lvIndex];
+                    break;
                 case InstructionCodes.RLOAD:
+                    lvIndex = operands[0];
+                    i = operands[1];
+                    sf.refRegs[i] = sf.refLocalVars[lvIndex];
+                    break;
+
                 case InstructionCodes.IALOAD:
                 case InstructionCodes.FALOAD:
                 case InstructionCodes.SALOAD:
@@ -358,11 +386,36 @@ public class BLangVM {
                     break;
 
                 case InstructionCodes.ISTORE:
+                    i = operands[0];
+                    lvIndex = operands[1];
+                    sf.longLocalVars[lvIndex] = sf.longRegs[i];
+                    break;
                 case InstructionCodes.FSTORE:
+                    i = operands[0];
+                    lvIndex = operands[1];
+                    sf.doubleLocalVars[lvIndex] = sf.doubleRegs[i];
+                    break;
                 case InstructionCodes.SSTORE:
+                    i = operands[0];
+                    lvIndex = operands[1];
+                    sf.stringLocalVars[lvIndex] = sf.stringRegs[i];
+                    break;
                 case InstructionCodes.BSTORE:
+                    i = operands[0];
+                    lvIndex = operands[1];
+                    sf.intLocalVars[lvIndex] = sf.intRegs[i];
+                    break;
                 case InstructionCodes.LSTORE:
+                    i = operands[0];
+                    lvIndex = operands[1];
+                    sf.byteLocalVars[lvIndex] = sf.byteRegs[i];
+                    break;
                 case InstructionCodes.RSTORE:
+                    i = operands[0];
+                    lvIndex = operands[1];
+                    sf.refLocalVars[lvIndex] = sf.refRegs[i];
+                    break;
+
                 case InstructionCodes.IASTORE:
                 case InstructionCodes.FASTORE:
                 case InstructionCodes.SASTORE:
@@ -388,13 +441,68 @@ public class BLangVM {
                     break;
 
                 case InstructionCodes.IADD:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.longRegs[k] = sf.longRegs[i] + sf.longRegs[j];
+                    break;
                 case InstructionCodes.FADD:
-                case InstructionCodes.SADD:
-                case InstructionCodes.XMLADD:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.doubleRegs[k] = sf.doubleRegs[i] + sf.doubleRegs[j];
+                    break;
                 case InstructionCodes.ISUB:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.longRegs[k] = sf.longRegs[i] - sf.longRegs[j];
+                    break;
                 case InstructionCodes.FSUB:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.doubleRegs[k] = sf.doubleRegs[i] - sf.doubleRegs[j];
+                    break;
                 case InstructionCodes.IMUL:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.longRegs[k] = sf.longRegs[i] * sf.longRegs[j];
+                    break;
                 case InstructionCodes.FMUL:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.doubleRegs[k] = sf.doubleRegs[i] * sf.doubleRegs[j];
+                    break;
+                case InstructionCodes.IEQ:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.longRegs[i] == sf.longRegs[j] ? 1 : 0;
+                    break;
+                case InstructionCodes.BEQ:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.intRegs[i] == sf.intRegs[j] ? 1 : 0;
+                    break;
+                case InstructionCodes.INE:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.longRegs[i] != sf.longRegs[j] ? 1 : 0;
+                    break;
+                case InstructionCodes.BNE:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.intRegs[i] != sf.intRegs[j] ? 1 : 0;
+                    break;
+
+                case InstructionCodes.SADD:
+                case InstructionCodes.XMLADD:
                 case InstructionCodes.IDIV:
                 case InstructionCodes.FDIV:
                 case InstructionCodes.IMOD:
@@ -402,16 +510,12 @@ public class BLangVM {
                 case InstructionCodes.INEG:
                 case InstructionCodes.FNEG:
                 case InstructionCodes.BNOT:
-                case InstructionCodes.IEQ:
                 case InstructionCodes.FEQ:
                 case InstructionCodes.SEQ:
-                case InstructionCodes.BEQ:
                 case InstructionCodes.REQ:
                 case InstructionCodes.TEQ:
-                case InstructionCodes.INE:
                 case InstructionCodes.FNE:
                 case InstructionCodes.SNE:
-                case InstructionCodes.BNE:
                 case InstructionCodes.RNE:
                 case InstructionCodes.TNE:
                     execBinaryOpCodes(sf, opcode, operands);
@@ -459,18 +563,74 @@ public class BLangVM {
                     break;
 
                 case InstructionCodes.IGT:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.longRegs[i] > sf.longRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.FGT:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.doubleRegs[i] > sf.doubleRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.IGE:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.longRegs[i] >= sf.longRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.FGE:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.doubleRegs[i] >= sf.doubleRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.ILT:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.longRegs[i] < sf.longRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.FLT:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.doubleRegs[i] < sf.doubleRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.ILE:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.longRegs[i] <= sf.longRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.FLE:
-                case InstructionCodes.REQ_NULL:
-                case InstructionCodes.RNE_NULL:
+                    i = operands[0];
+                    j = operands[1];
+                    k = operands[2];
+                    sf.intRegs[k] = sf.doubleRegs[i] <= sf.doubleRegs[j] ? 1 : 0;
+                    break;
                 case InstructionCodes.BR_TRUE:
+                    i = operands[0];
+                    j = operands[1];
+                    if (sf.intRegs[i] == 1) {
+                        ip = j;
+                    }
+                    break;
                 case InstructionCodes.BR_FALSE:
+                    i = operands[0];
+                    j = operands[1];
+                    if (sf.intRegs[i] == 0) {
+                        ip = j;
+                    }
+                    break;
                 case InstructionCodes.GOTO:
+                    i = operands[0];
+                    ip = i;
+                    break;
+
+                case InstructionCodes.REQ_NULL:
+                case InstructionCodes.RNE_NULL:
                 case InstructionCodes.HALT:
                     execCmpAndBranchOpcodes(sf, opcode, operands);
                     break;
@@ -543,7 +703,7 @@ public class BLangVM {
 
                     cpIndex = operands[1];
                     funcCallCPEntry = (FunctionCallCPEntry) constPool[cpIndex];
-                    invokeAction(actionRefCPEntry.getActionName(), funcCallCPEntry);
+                    invokeAction(actionRefCPEntry, funcCallCPEntry);
                     break;
                 case InstructionCodes.THROW:
                     i = operands[0];
@@ -797,60 +957,7 @@ public class BLangVM {
     private void execCmpAndBranchOpcodes(StackFrame sf, int opcode, int[] operands) {
         int i;
         int j;
-        int k;
         switch (opcode) {
-            case InstructionCodes.IGT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.longRegs[i] > sf.longRegs[j] ? 1 : 0;
-                break;
-            case InstructionCodes.FGT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.doubleRegs[i] > sf.doubleRegs[j] ? 1 : 0;
-                break;
-
-            case InstructionCodes.IGE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.longRegs[i] >= sf.longRegs[j] ? 1 : 0;
-                break;
-            case InstructionCodes.FGE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.doubleRegs[i] >= sf.doubleRegs[j] ? 1 : 0;
-                break;
-
-            case InstructionCodes.ILT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.longRegs[i] < sf.longRegs[j] ? 1 : 0;
-                break;
-            case InstructionCodes.FLT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.doubleRegs[i] < sf.doubleRegs[j] ? 1 : 0;
-                break;
-
-            case InstructionCodes.ILE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.longRegs[i] <= sf.longRegs[j] ? 1 : 0;
-                break;
-            case InstructionCodes.FLE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.doubleRegs[i] <= sf.doubleRegs[j] ? 1 : 0;
-                break;
-
             case InstructionCodes.REQ_NULL:
                 i = operands[0];
                 j = operands[1];
@@ -870,24 +977,6 @@ public class BLangVM {
                 }
                 break;
 
-            case InstructionCodes.BR_TRUE:
-                i = operands[0];
-                j = operands[1];
-                if (sf.intRegs[i] == 1) {
-                    ip = j;
-                }
-                break;
-            case InstructionCodes.BR_FALSE:
-                i = operands[0];
-                j = operands[1];
-                if (sf.intRegs[i] == 0) {
-                    ip = j;
-                }
-                break;
-            case InstructionCodes.GOTO:
-                i = operands[0];
-                ip = i;
-                break;
             case InstructionCodes.HALT:
                 ip = -1;
                 break;
@@ -900,7 +989,6 @@ public class BLangVM {
         int i;
         int j;
         int k;
-        int lvIndex; // Index of the local variable
         int fieldIndex;
 
         BIntArray bIntArray;
@@ -913,36 +1001,6 @@ public class BLangVM {
         BMap<String, BRefType> bMap;
         BJSON jsonVal;
         switch (opcode) {
-            case InstructionCodes.ILOAD:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.longRegs[i] = sf.longLocalVars[lvIndex];
-                break;
-            case InstructionCodes.FLOAD:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.doubleRegs[i] = sf.doubleLocalVars[lvIndex];
-                break;
-            case InstructionCodes.SLOAD:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.stringRegs[i] = sf.stringLocalVars[lvIndex];
-                break;
-            case InstructionCodes.BLOAD:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.intRegs[i] = sf.intLocalVars[lvIndex];
-                break;
-            case InstructionCodes.LLOAD:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.byteRegs[i] = sf.byteLocalVars[lvIndex];
-                break;
-            case InstructionCodes.RLOAD:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.refRegs[i] = sf.refLocalVars[lvIndex];
-                break;
             case InstructionCodes.IALOAD:
                 i = operands[0];
                 j = operands[1];
@@ -1210,7 +1268,6 @@ public class BLangVM {
         int i;
         int j;
         int k;
-        int lvIndex; // Index of the local variable
         int fieldIndex;
 
         BIntArray bIntArray;
@@ -1223,36 +1280,6 @@ public class BLangVM {
         BMap<String, BRefType> bMap;
         BJSON jsonVal;
         switch (opcode) {
-            case InstructionCodes.ISTORE:
-                i = operands[0];
-                lvIndex = operands[1];
-                sf.longLocalVars[lvIndex] = sf.longRegs[i];
-                break;
-            case InstructionCodes.FSTORE:
-                i = operands[0];
-                lvIndex = operands[1];
-                sf.doubleLocalVars[lvIndex] = sf.doubleRegs[i];
-                break;
-            case InstructionCodes.SSTORE:
-                i = operands[0];
-                lvIndex = operands[1];
-                sf.stringLocalVars[lvIndex] = sf.stringRegs[i];
-                break;
-            case InstructionCodes.BSTORE:
-                i = operands[0];
-                lvIndex = operands[1];
-                sf.intLocalVars[lvIndex] = sf.intRegs[i];
-                break;
-            case InstructionCodes.LSTORE:
-                i = operands[0];
-                lvIndex = operands[1];
-                sf.byteLocalVars[lvIndex] = sf.byteRegs[i];
-                break;
-            case InstructionCodes.RSTORE:
-                i = operands[0];
-                lvIndex = operands[1];
-                sf.refLocalVars[lvIndex] = sf.refRegs[i];
-                break;
             case InstructionCodes.IASTORE:
                 i = operands[0];
                 j = operands[1];
@@ -1478,7 +1505,6 @@ public class BLangVM {
                 structureType.setRefField(fieldIndex, sf.refRegs[j]);
                 break;
 
-
             case InstructionCodes.MAPSTORE:
                 i = operands[0];
                 j = operands[1];
@@ -1492,7 +1518,6 @@ public class BLangVM {
                 bMap.put(sf.stringRegs[j], sf.refRegs[k]);
                 break;
 
-
             case InstructionCodes.JSONSTORE:
                 i = operands[0];
                 j = operands[1];
@@ -1514,18 +1539,6 @@ public class BLangVM {
         int j;
         int k;
         switch (opcode) {
-            case InstructionCodes.IADD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.longRegs[k] = sf.longRegs[i] + sf.longRegs[j];
-                break;
-            case InstructionCodes.FADD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.doubleRegs[k] = sf.doubleRegs[i] + sf.doubleRegs[j];
-                break;
             case InstructionCodes.SADD:
                 i = operands[0];
                 j = operands[1];
@@ -1546,30 +1559,6 @@ public class BLangVM {
                 // Here it is assumed that a refType addition can only be a xml-concat.
                 sf.refRegs[k] = XMLUtils.concatenate(lhsXMLVal, rhsXMLVal);
                 break;
-            case InstructionCodes.ISUB:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.longRegs[k] = sf.longRegs[i] - sf.longRegs[j];
-                break;
-            case InstructionCodes.FSUB:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.doubleRegs[k] = sf.doubleRegs[i] - sf.doubleRegs[j];
-                break;
-            case InstructionCodes.IMUL:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.longRegs[k] = sf.longRegs[i] * sf.longRegs[j];
-                break;
-            case InstructionCodes.FMUL:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.doubleRegs[k] = sf.doubleRegs[i] * sf.doubleRegs[j];
-                break;
             case InstructionCodes.IDIV:
                 i = operands[0];
                 j = operands[1];
@@ -1633,12 +1622,6 @@ public class BLangVM {
                 j = operands[1];
                 sf.intRegs[j] = sf.intRegs[i] == 0 ? 1 : 0;
                 break;
-            case InstructionCodes.IEQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.longRegs[i] == sf.longRegs[j] ? 1 : 0;
-                break;
             case InstructionCodes.FEQ:
                 i = operands[0];
                 j = operands[1];
@@ -1651,12 +1634,6 @@ public class BLangVM {
                 k = operands[2];
                 sf.intRegs[k] = sf.stringRegs[i].equals(sf.stringRegs[j]) ? 1 : 0;
                 break;
-            case InstructionCodes.BEQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.intRegs[i] == sf.intRegs[j] ? 1 : 0;
-                break;
             case InstructionCodes.REQ:
                 i = operands[0];
                 j = operands[1];
@@ -1673,12 +1650,6 @@ public class BLangVM {
                 sf.intRegs[k] = sf.refRegs[i].equals(sf.refRegs[j]) ? 1 : 0;
                 break;
 
-            case InstructionCodes.INE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.longRegs[i] != sf.longRegs[j] ? 1 : 0;
-                break;
             case InstructionCodes.FNE:
                 i = operands[0];
                 j = operands[1];
@@ -1691,12 +1662,6 @@ public class BLangVM {
                 k = operands[2];
                 sf.intRegs[k] = !(sf.stringRegs[i].equals(sf.stringRegs[j])) ? 1 : 0;
                 break;
-            case InstructionCodes.BNE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.intRegs[k] = sf.intRegs[i] != sf.intRegs[j] ? 1 : 0;
-                break;
             case InstructionCodes.RNE:
                 i = operands[0];
                 j = operands[1];
@@ -2614,7 +2579,7 @@ public class BLangVM {
 
     }
 
-    public void invokeAction(String actionName, FunctionCallCPEntry funcCallCPEntry) {
+    public void invokeAction(ActionRefCPEntry actionRefCPEntry, FunctionCallCPEntry funcCallCPEntry) {
         int[] argRegs = funcCallCPEntry.getArgRegs();
         StackFrame callerSF = controlStack.currentFrame;
 
@@ -2624,9 +2589,14 @@ public class BLangVM {
             return;
         }
         BConnectorType actualCon = (BConnectorType) ((BConnector) callerSF.refRegs[argRegs[0]]).getConnectorType();
-        //TODO find a way to change this to method table
-        ActionInfo newActionInfo = programFile.getPackageInfo(actualCon.getPackagePath())
-                .getConnectorInfo(actualCon.getName()).getActionInfo(actionName);
+        // Call sites almost always see a single connector type, so the last resolved action is cached in the
+        // constant pool entry and the lookup by name is done only when the type changes.
+        ActionInfo newActionInfo = actionRefCPEntry.getResolvedActionInfo(actualCon);
+        if (newActionInfo == null) {
+            newActionInfo = programFile.getPackageInfo(actualCon.getPackagePath())
+                    .getConnectorInfo(actualCon.getName()).getActionInfo(actionRefCPEntry.getActionName());
+            actionRefCPEntry.setResolvedActionInfo(actualCon, newActionInfo);
+        }
 
         if (newActionInfo.isNative()) {
             invokeNativeAction(newActionInfo, funcCallCPEntry);
@@ -2646,7 +2616,7 @@ public class BLangVM {
 
         //populateArgumentValuesForWorker(expressions, arguments);
         workerDataChannel.setTypes(wrkrIntRefCPEntry.getbTypes());
-        workerDataChannel.putData(arguments);
+        currentFrame.getWorkerDataChannel(workerDataChannel).putData(arguments);
     }
 
     public void invokeForkJoin(ForkJoinCPEntry forkJoinCPEntry) {
@@ -2658,6 +2628,8 @@ public class BLangVM {
         }
         Queue<WorkerResult> resultMsgs = new ConcurrentLinkedQueue<>();
         Map<String, BLangVMWorkers.WorkerExecutor> workers = new HashMap<>();
+        // Each execution of the fork statement gets its own channels
+        Map<WorkerDataChannelInfo, WorkerDataChannel> workerDataChannels = new ConcurrentHashMap<>();
         for (WorkerInfo workerInfo : forkjoinInfo.getWorkerInfoMap().values()) {
             Context workerContext = new WorkerContext(this.programFile, context);
             workerContext.blockingInvocation = true;
@@ -2666,6 +2638,7 @@ public class BLangVM {
             ControlStackNew workerControlStack = workerContext.getControlStackNew();
             StackFrame calleeSF = new StackFrame(this.controlStack.currentFrame.getCallableUnitInfo(),
                     workerInfo, -1, new int[1]);
+            calleeSF.setWorkerDataChannels(workerDataChannels);
             workerControlStack.pushFrame(calleeSF);
             BLangVM.copyValuesForForkJoin(callerSF, calleeSF, argRegs);
             BLangVM bLangVM = new BLangVM(this.programFile);
@@ -2757,8 +2730,8 @@ public class BLangVM {
     public void replyWorker(WorkerDataChannelInfo workerDataChannel,
                             WrkrInteractionArgsCPEntry wrkrIntCPEntry) {
 
-        BValue[] passedInValues = (BValue[]) workerDataChannel.takeData();
         StackFrame currentFrame = controlStack.currentFrame;
+        BValue[] passedInValues = currentFrame.getWorkerDataChannel(workerDataChannel).takeData();
         copyArgValuesForWorkerReply(currentFrame, wrkrIntCPEntry.getArgRegs(),
                 wrkrIntCPEntry.getbTypes(), passedInValues);
     }
@@ -3028,8 +3001,8 @@ public class BLangVM {
                     caleeSF.packageInfo = actionInfo.getPackageInfo();
                 }
                 context.programFile = programFile;
-                context.funcCallCPEntry = funcCallCPEntry;
-                context.actionInfo = actionInfo;
+                context.suspend(actionInfo, funcCallCPEntry);
+                suspended = true;
 
                 ConnectorFuture future = nativeAction.execute(context);
                 if (future == null) {
@@ -3062,6 +3035,8 @@ public class BLangVM {
 
             }
         } catch (Throwable e) {
+            context.resume();
+            suspended = false;
             context.setError(BLangVMErrors.createError(this.context, ip, e.getMessage()));
             handleError();
             return;
@@ -3471,13 +3446,12 @@ public class BLangVM {
         BStruct bStruct = new BStruct(structType);
         StructInfo structInfo = sf.packageInfo.getStructInfo(structType.getName());
 
-        Set<String> keys = bMap.keySet();
         for (StructFieldInfo fieldInfo : structInfo.getFieldInfoEntries()) {
             String key = fieldInfo.getName();
             BType fieldType = fieldInfo.getFieldType();
             BValue mapVal = null;
             try {
-                boolean containsField = keys.contains(key);
+                boolean containsField = bMap.hasKey(key);
                 DefaultValueAttributeInfo defaultValAttrInfo = null;
                 if (containsField) {
                     mapVal = bMap.get(key);
@@ -3641,8 +3615,4 @@ public class BLangVM {
         }
         return null;
     }
-
-    private boolean isWaitingOnNonBlockingAction() {
-        return context.actionInfo != null;
-    }
 }
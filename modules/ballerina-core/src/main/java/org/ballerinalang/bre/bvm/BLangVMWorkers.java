@@ -33,6 +33,7 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.codegen.WorkerDataChannelInfo;
 import org.ballerinalang.util.codegen.WorkerInfo;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
@@ -93,6 +94,7 @@ public class BLangVMWorkers {
         startSF.setByteRegs(new byte[returnIndex.byteRegCount][]);
 
         StackFrame calleeSF = new StackFrame(callableUnitInfo, workerInfo, -1, returnIndex.retRegs);
+        calleeSF.setWorkerDataChannels(callerSF.getWorkerDataChannels());
         controlStack.pushFrame(calleeSF);
 
         // Copy values from the current StackFrame to the new StackFrame
@@ -137,6 +139,7 @@ public class BLangVMWorkers {
         private WorkerInfo workerInfo;
         private Queue<WorkerResult> resultHolder;
         private Semaphore resultCounter;
+        private Map<WorkerDataChannelInfo, WorkerDataChannel> workerDataChannels;
 
         public WorkerExecutor(BLangVM bLangVM, Context bContext, WorkerInfo workerInfo, 
                 Queue<WorkerResult> resultHolder) {
@@ -144,6 +147,7 @@ public class BLangVMWorkers {
             this.bContext = bContext;
             this.workerInfo = workerInfo;
             this.resultHolder = resultHolder;
+            this.workerDataChannels = bContext.getControlStackNew().currentFrame.getWorkerDataChannels();
         }
 
         @SuppressWarnings("rawtypes")
@@ -156,9 +160,11 @@ public class BLangVMWorkers {
                 outStream.println("error in worker '" + workerInfo.getWorkerName() + "': " + stackTraceStr);
             }
 
-            if (workerInfo.getWorkerDataChannelInfoForForkJoin() != null) {
-                BValue[] results = (BValue[]) workerInfo.getWorkerDataChannelInfoForForkJoin().takeData();
-                BType[] types = workerInfo.getWorkerDataChannelInfoForForkJoin().getTypes();
+            WorkerDataChannelInfo forkJoinDataChannelInfo = workerInfo.getWorkerDataChannelInfoForForkJoin();
+            if (forkJoinDataChannelInfo != null) {
+                BValue[] results = workerDataChannels.computeIfAbsent(forkJoinDataChannelInfo,
+                        info -> new WorkerDataChannel()).takeData();
+                BType[] types = forkJoinDataChannelInfo.getTypes();
                 for (int i = 0; i < types.length; i++) {
                     BType paramType = types[i];
                     switch (paramType.getTag()) {
@@ -22,10 +22,13 @@ import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.WorkerDataChannelInfo;
 import org.ballerinalang.util.codegen.WorkerInfo;
 import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -35,6 +38,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @since 0.88
  */
 public class StackFrame {
+    private static final long[] EMPTY_LONG_ARRAY = new long[0];
+    private static final double[] EMPTY_DOUBLE_ARRAY = new double[0];
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+    private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+    private static final byte[][] EMPTY_BYTE_ARRAY_ARRAY = new byte[0][];
+    private static final BRefType[] EMPTY_REF_ARRAY = new BRefType[0];
+
     long[] longLocalVars;
     double[] doubleLocalVars;
     String[] stringLocalVars;
@@ -71,6 +82,9 @@ public class StackFrame {
     // To support worker return.
     final AtomicBoolean workerReturned = new AtomicBoolean();
     String returnedWorker = "";
+
+    // Data channels between the workers of this invocation. Shared with the frames of those workers.
+    private Map<WorkerDataChannelInfo, WorkerDataChannel> workerDataChannels;
     
     public StackFrame prevStackFrame;
 
@@ -86,25 +100,48 @@ public class StackFrame {
         this.workerInfo = workerInfo;
         CodeAttributeInfo codeAttribInfo = workerInfo.getCodeAttributeInfo();
 
-        this.longLocalVars = new long[codeAttribInfo.getMaxLongLocalVars()];
-        this.doubleLocalVars = new double[codeAttribInfo.getMaxDoubleLocalVars()];
-
-        this.stringLocalVars = new String[codeAttribInfo.getMaxStringLocalVars()];
-        // Setting the zero values for strings
-        Arrays.fill(stringLocalVars, "");
-
-        this.intLocalVars = new int[codeAttribInfo.getMaxIntLocalVars()];
-        this.byteLocalVars = new byte[codeAttribInfo.getMaxByteLocalVars()][];
-        Arrays.fill(byteLocalVars, new byte[0]);
-
-        this.refLocalVars = new BRefType[codeAttribInfo.getMaxRefLocalVars()];
-
-        this.longRegs = new long[codeAttribInfo.getMaxLongRegs()];
-        this.doubleRegs = new double[codeAttribInfo.getMaxDoubleRegs()];
-        this.stringRegs = new String[codeAttribInfo.getMaxStringRegs()];
-        this.intRegs = new int[codeAttribInfo.getMaxIntRegs()];
-        this.byteRegs = new byte[codeAttribInfo.getMaxByteRegs()][];
-        this.refRegs = new BRefType[codeAttribInfo.getMaxRefRegs()];
+        // Zero sized arrays are shared between frames, since most callables use only a few of the value kinds.
+        int size = codeAttribInfo.getMaxLongLocalVars();
+        this.longLocalVars = size == 0 ? EMPTY_LONG_ARRAY : new long[size];
+        size = codeAttribInfo.getMaxDoubleLocalVars();
+        this.doubleLocalVars = size == 0 ? EMPTY_DOUBLE_ARRAY : new double[size];
+
+        size = codeAttribInfo.getMaxStringLocalVars();
+        if (size == 0) {
+            this.stringLocalVars = EMPTY_STRING_ARRAY;
+        } else {
+            this.stringLocalVars = new String[size];
+            // Setting the zero values for strings
+            Arrays.fill(stringLocalVars, "");
+        }
+
+        size = codeAttribInfo.getMaxIntLocalVars();
+        this.intLocalVars = size == 0 ? EMPTY_INT_ARRAY : new int[size];
+
+        size = codeAttribInfo.getMaxByteLocalVars();
+        if (size == 0) {
+            this.byteLocalVars = EMPTY_BYTE_ARRAY_ARRAY;
+        } else {
+            this.byteLocalVars = new byte[size][];
+            // Setting the zero values for blobs
+            Arrays.fill(byteLocalVars, EMPTY_BYTE_ARRAY);
+        }
+
+        size = codeAttribInfo.getMaxRefLocalVars();
+        this.refLocalVars = size == 0 ? EMPTY_REF_ARRAY : new BRefType[size];
+
+        size = codeAttribInfo.getMaxLongRegs();
+        this.longRegs = size == 0 ? EMPTY_LONG_ARRAY : new long[size];
+        size = codeAttribInfo.getMaxDoubleRegs();
+        this.doubleRegs = size == 0 ? EMPTY_DOUBLE_ARRAY : new double[size];
+        size = codeAttribInfo.getMaxStringRegs();
+        this.stringRegs = size == 0 ? EMPTY_STRING_ARRAY : new String[size];
+        size = codeAttribInfo.getMaxIntRegs();
+        this.intRegs = size == 0 ? EMPTY_INT_ARRAY : new int[size];
+        size = codeAttribInfo.getMaxByteRegs();
+        this.byteRegs = size == 0 ? EMPTY_BYTE_ARRAY_ARRAY : new byte[size][];
+        size = codeAttribInfo.getMaxRefRegs();
+        this.refRegs = size == 0 ? EMPTY_REF_ARRAY : new BRefType[size];
 
         this.retAddrs = retAddrs;
         this.retRegIndexes = retRegIndexes;
@@ -116,32 +153,7 @@ public class StackFrame {
 
     public StackFrame(CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo, int retAddrs, int[] retRegIndexes,
                       BValue[] returnValues) {
-        this.callableUnitInfo = callableUnitInfo;
-        this.packageInfo = callableUnitInfo.getPackageInfo();
-        this.workerInfo = workerInfo;
-        CodeAttributeInfo codeAttribInfo = workerInfo.getCodeAttributeInfo();
-
-        this.longLocalVars = new long[codeAttribInfo.getMaxLongLocalVars()];
-        this.doubleLocalVars = new double[codeAttribInfo.getMaxDoubleLocalVars()];
-
-        this.stringLocalVars = new String[codeAttribInfo.getMaxStringLocalVars()];
-        // Setting the zero values for strings
-        Arrays.fill(stringLocalVars, "");
-
-        this.intLocalVars = new int[codeAttribInfo.getMaxIntLocalVars()];
-        this.byteLocalVars = new byte[codeAttribInfo.getMaxByteLocalVars()][];
-        Arrays.fill(byteLocalVars, new byte[0]);
-        this.refLocalVars = new BRefType[codeAttribInfo.getMaxRefLocalVars()];
-
-        this.longRegs = new long[codeAttribInfo.getMaxLongRegs()];
-        this.doubleRegs = new double[codeAttribInfo.getMaxDoubleRegs()];
-        this.stringRegs = new String[codeAttribInfo.getMaxStringRegs()];
-        this.intRegs = new int[codeAttribInfo.getMaxIntRegs()];
-        this.byteRegs = new byte[codeAttribInfo.getMaxByteRegs()][];
-        this.refRegs = new BRefType[codeAttribInfo.getMaxRefRegs()];
-
-        this.retAddrs = retAddrs;
-        this.retRegIndexes = retRegIndexes;
+        this(callableUnitInfo, workerInfo, retAddrs, retRegIndexes);
         this.returnValues = returnValues;
     }
 
@@ -256,4 +268,19 @@ public class StackFrame {
     public void markedAsReturned() {
         this.workerReturned.set(true);
     }
+
+    synchronized Map<WorkerDataChannelInfo, WorkerDataChannel> getWorkerDataChannels() {
+        if (workerDataChannels == null) {
+            workerDataChannels = new ConcurrentHashMap<>();
+        }
+        return workerDataChannels;
+    }
+
+    synchronized void setWorkerDataChannels(Map<WorkerDataChannelInfo, WorkerDataChannel> workerDataChannels) {
+        this.workerDataChannels = workerDataChannels;
+    }
+
+    WorkerDataChannel getWorkerDataChannel(WorkerDataChannelInfo workerDataChannelInfo) {
+        return getWorkerDataChannels().computeIfAbsent(workerDataChannelInfo, info -> new WorkerDataChannel());
+    }
 }
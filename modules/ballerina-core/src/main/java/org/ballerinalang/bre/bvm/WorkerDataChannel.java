@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.model.values.BValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code WorkerDataChannel} carries the messages sent between two workers of a single invocation. Channels are
+ * created per invocation, so concurrent invocations of the same callable never see each other's messages.
+ *
+ * @since 0.95.1
+ */
+public class WorkerDataChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerDataChannel.class);
+    private static final long RECEIVE_TIMEOUT_SECONDS = 60;
+
+    private final BlockingQueue<BValue[]> channel = new LinkedBlockingQueue<>();
+
+    public void putData(BValue[] data) {
+        if (data != null) {
+            channel.add(data);
+        }
+    }
+
+    public BValue[] takeData() {
+        BValue[] data = null;
+        try {
+            data = channel.poll(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Error occurred when taking data from the channel");
+        }
+        return data;
+    }
+}
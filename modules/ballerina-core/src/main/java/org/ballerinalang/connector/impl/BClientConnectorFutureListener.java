@@ -69,8 +69,8 @@ public class BClientConnectorFutureListener implements ConnectorFutureListener {
 
     private void done() {
         if (nonBlocking) {
-            ThreadPoolFactory.getInstance().getExecutor()
-                    .execute(new ResponseWorkerThread(context));
+            // Never resume on the calling thread, which is usually a transport I/O thread.
+            ThreadPoolFactory.getInstance().executeResumption(new ResponseWorkerThread(context));
         } else {
             executionWaitSem.release();
 //            synchronized (context) {
@@ -26,6 +26,7 @@ import java.util.Map;
  *  This interface represents an data iterator operations.
  *  Each data source need to implement their own implementation by implementing this interface.
  *  Methods which belongs to DataIterator will expose through native functions in ballerina.model.datatables package.
+ *  Column values are read by their 1-based index, in the order of {@link #getColumnDefinitions()}.
  *  Known implementations: {@code SQLDataIterator}
  *
  *  @since 0.8.0
@@ -36,17 +37,17 @@ public interface DataIterator {
 
     void close(boolean isInTransaction);
 
-    String getString(String columnName);
+    String getString(int columnIndex);
 
-    long getInt(String columnName);
+    long getInt(int columnIndex);
 
-    double getFloat(String columnName);
+    double getFloat(int columnIndex);
 
-    boolean getBoolean(String columnName);
+    boolean getBoolean(int columnIndex);
 
-    String getBlob(String columnName);
+    String getBlob(int columnIndex);
 
-    Map<String, Object> getArray(String columnName);
+    Map<String, Object> getArray(int columnIndex);
 
     BStruct generateNext();
 
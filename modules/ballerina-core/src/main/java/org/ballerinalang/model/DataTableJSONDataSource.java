@@ -19,10 +19,7 @@ package org.ballerinalang.model;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BJSON.JSONDataSource;
 
@@ -42,9 +39,16 @@ public class DataTableJSONDataSource implements JSONDataSource {
     private boolean isInTransaction;
 
     public DataTableJSONDataSource(BDataTable df, boolean isInTransaction) {
-        this(df, new DefaultJSONObjectGenerator(), isInTransaction);
+        this(df, null, isInTransaction);
     }
 
+    /**
+     * Creates a data source which converts each row with the given generator.
+     *
+     * @param df              the datatable to serialize
+     * @param objGen          row transformer, or null to write the rows based on the column definitions
+     * @param isInTransaction whether the datatable belongs to a transaction
+     */
     public DataTableJSONDataSource(BDataTable df, JSONObjectGenerator objGen, boolean isInTransaction) {
         this.df = df;
         this.objGen = objGen;
@@ -55,62 +59,62 @@ public class DataTableJSONDataSource implements JSONDataSource {
     public void serialize(JsonGenerator gen, SerializerProvider serializerProvider) throws IOException {
         gen.writeStartArray();
         while (this.df.hasNext(this.isInTransaction)) {
-            this.objGen.transform(this.df).serialize(gen, serializerProvider);
+            if (this.objGen == null) {
+                writeRow(gen);
+            } else {
+                this.objGen.transform(this.df).serialize(gen, serializerProvider);
+            }
         }
         gen.writeEndArray();
         this.df.close(this.isInTransaction);
     }
 
     /**
-     * Default {@link DataTableJSONDataSource.JSONObjectGenerator} implementation based
-     * on the datatable's in-built column definition.
+     * Writes the current row straight to the generator based on the datatable's in-built column definitions,
+     * without building an intermediate JSON tree for the row. Values are read by column index.
      */
-    private static class DefaultJSONObjectGenerator implements JSONObjectGenerator {
-
-        @Override
-        public JsonNode transform(BDataTable df) throws IOException {
-            JsonNodeFactory fac = JsonNodeFactory.instance;
-            ObjectNode objNode = fac.objectNode();
-            String name;
-            for (ColumnDefinition col : df.getColumnDefs()) {
-                name = col.getName();
-                switch (col.getType()) {
-                case STRING:
-                    objNode.put(name, df.getString(name));
-                    break;
-                case INT:
-                    objNode.put(name, df.getInt(name));
-                    break;
-                case FLOAT:
-                    objNode.put(name, df.getFloat(name));
-                    break;
-                case BOOLEAN:
-                    objNode.put(name, df.getBoolean(name));
-                    break;
-                case BLOB:
-                    objNode.put(name, df.getBlob(name));
-                    break;
-                case ARRAY:
-                    //TODO: ARRAY
-                    break;
-                case JSON:
-                    objNode.set(name, new ObjectMapper().readTree(""));
-                    break;
-                case MAP:
-                    //TODO: MAP
-                    break;
-                case XML:
-                    objNode.put(name, "");
-                    //TODO: get XML
-                    break;
-                default:
-                    objNode.put(name, df.getString(name));
-                    break;
-                }
+    private void writeRow(JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        String name;
+        int columnIndex = 0;
+        for (ColumnDefinition col : df.getColumnDefs()) {
+            ++columnIndex;
+            name = col.getName();
+            switch (col.getType()) {
+            case STRING:
+                gen.writeStringField(name, df.getString(columnIndex));
+                break;
+            case INT:
+                gen.writeNumberField(name, df.getInt(columnIndex));
+                break;
+            case FLOAT:
+                gen.writeNumberField(name, df.getFloat(columnIndex));
+                break;
+            case BOOLEAN:
+                gen.writeBooleanField(name, df.getBoolean(columnIndex));
+                break;
+            case BLOB:
+                gen.writeStringField(name, df.getBlob(columnIndex));
+                break;
+            case ARRAY:
+                //TODO: ARRAY
+                break;
+            case JSON:
+                gen.writeNullField(name);
+                break;
+            case MAP:
+                //TODO: MAP
+                break;
+            case XML:
+                gen.writeStringField(name, "");
+                //TODO: get XML
+                break;
+            default:
+                gen.writeStringField(name, df.getString(columnIndex));
+                break;
             }
-            return objNode;
         }
-
+        gen.writeEndObject();
     }
 
     /**
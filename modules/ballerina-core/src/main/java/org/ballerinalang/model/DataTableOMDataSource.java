@@ -55,32 +55,34 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
         xmlStreamWriter.writeStartElement(this.rootWrapper);
         while (dataTable.hasNext(this.isInTransaction)) {
             xmlStreamWriter.writeStartElement(this.rowWrapper);
+            int columnIndex = 0;
             for (ColumnDefinition col : dataTable.getColumnDefs()) {
+                ++columnIndex;
                 boolean isArray = false;
                 xmlStreamWriter.writeStartElement(col.getName());
                 String value = null;
                 switch (col.getType()) {
                 case BOOLEAN:
-                    value = String.valueOf(dataTable.getBoolean(col.getName()));
+                    value = String.valueOf(dataTable.getBoolean(columnIndex));
                     break;
                 case STRING:
-                    value = dataTable.getString(col.getName());
+                    value = dataTable.getString(columnIndex);
                     break;
                 case INT:
-                    value = String.valueOf(dataTable.getInt(col.getName()));
+                    value = String.valueOf(dataTable.getInt(columnIndex));
                     break;
                 case FLOAT:
-                    value = String.valueOf(dataTable.getFloat(col.getName()));
+                    value = String.valueOf(dataTable.getFloat(columnIndex));
                     break;
                 case BLOB:
-                    value = dataTable.getBlob(col.getName());
+                    value = dataTable.getBlob(columnIndex);
                     break;
                 case ARRAY:
                     isArray = true;
-                    processArray(xmlStreamWriter, col);
+                    processArray(xmlStreamWriter, columnIndex);
                     break;
                 default:
-                    value = dataTable.getString(col.getName());
+                    value = dataTable.getString(columnIndex);
                     break;
                 }
                 if (!isArray) {
@@ -100,9 +102,9 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
         xmlStreamWriter.flush();
     }
 
-    private void processArray(XMLStreamWriter xmlStreamWriter, ColumnDefinition col)
+    private void processArray(XMLStreamWriter xmlStreamWriter, int columnIndex)
             throws XMLStreamException {
-        Map<String, Object> array = dataTable.getArray(col.getName());
+        Map<String, Object> array = dataTable.getArray(columnIndex);
         if (array != null && !array.isEmpty()) {
             for (Map.Entry<String, Object> values : array.entrySet()) {
                 xmlStreamWriter.writeStartElement(ARRAY_ELEMENT_NAME);
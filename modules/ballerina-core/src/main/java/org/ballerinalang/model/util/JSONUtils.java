@@ -72,7 +72,6 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.Set;
 
 /**
  * Common utility methods used for JSON manipulation.
@@ -106,7 +105,7 @@ public class JSONUtils {
      * @return JSON representation of the provided map
      */
     public static BJSON convertMapToJSON(BMap<String, BValue> map) {
-        Set<String> keys = map.keySet();
+        List<String> keys = map.keys();
         BJSON bjson = new BJSON("{}");
         ObjectNode jsonNode = (ObjectNode) bjson.value();
         for (String key : keys) {
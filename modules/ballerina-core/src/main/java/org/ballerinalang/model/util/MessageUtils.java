@@ -20,16 +20,21 @@ package org.ballerinalang.model.util;
 
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 
 /**
  * Common Utils methods used in Message.
  */
 public class MessageUtils {
 
+    private static final int BUFFER_SIZE = 8192;
+    // Upper bound for trusting a declared length up front, larger payloads grow the buffer as they arrive.
+    private static final int MAX_PREALLOCATION = 16 * 1024 * 1024;
+
     /**
      * Convert input stream to String.
      *
@@ -37,24 +42,64 @@ public class MessageUtils {
      * @return Message payload as string
      */
     public static String getStringFromInputStream(InputStream in) {
-        BufferedInputStream bis = new BufferedInputStream(in);
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        String result;
+        return getStringFromInputStream(in, -1);
+    }
+
+    /**
+     * Convert input stream to String.
+     *
+     * @param in             Message payload as an input stream
+     * @param expectedLength Expected payload length in bytes, or a negative value if unknown
+     * @return Message payload as string
+     */
+    public static String getStringFromInputStream(InputStream in, int expectedLength) {
+        return new String(getBytesFromInputStream(in, expectedLength), Charset.defaultCharset());
+    }
+
+    /**
+     * Read the entire input stream into a byte array. When the expected length is known, the payload is read
+     * directly into an array of that size, so no intermediate buffers are grown and copied.
+     *
+     * @param in             Message payload as an input stream
+     * @param expectedLength Expected payload length in bytes, or a negative value if unknown
+     * @return Message payload as bytes
+     */
+    public static byte[] getBytesFromInputStream(InputStream in, int expectedLength) {
         try {
-            int data;
-            while ((data = bis.read()) != -1) {
-                bos.write(data);
+            int offset = 0;
+            expectedLength = Math.min(expectedLength, MAX_PREALLOCATION);
+            if (expectedLength >= 0) {
+                byte[] bytes = new byte[expectedLength];
+                int count;
+                while (offset < expectedLength && (count = in.read(bytes, offset, expectedLength - offset)) != -1) {
+                    offset += count;
+                }
+                if (offset < expectedLength) {
+                    return Arrays.copyOf(bytes, offset);
+                }
+                int next = in.read();
+                if (next == -1) {
+                    return bytes;
+                }
+                // The payload is longer than expected, continue with a growing buffer.
+                ByteArrayOutputStream bos = new ByteArrayOutputStream(expectedLength * 2 + 1);
+                bos.write(bytes, 0, expectedLength);
+                bos.write(next);
+                return readRemaining(in, bos);
             }
-            result = bos.toString();
+            return readRemaining(in, new ByteArrayOutputStream(BUFFER_SIZE));
         } catch (IOException ioe) {
             throw new BallerinaException("Error occurred when reading input stream", ioe);
-        } finally {
-            try {
-                bos.close();
-            } catch (IOException ignored) {
-            }
         }
-        return result;
+    }
+
+    private static byte[] readRemaining(InputStream in, ByteArrayOutputStream bos) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            bos.write(buffer, 0, count);
+        }
+        return bos.toByteArray();
     }
 
     /**
@@ -25,17 +25,20 @@ import org.ballerinalang.util.exceptions.BallerinaException;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
-import java.util.Iterator;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * {@code MapType} represents a map.
+ * <p>
+ * A map may be shared between workers, so every access is guarded by the map's monitor. The monitor is never
+ * held while calling into another value, so nested maps are locked one at a time.
  * @param <K> Key
  * @param <V> Value
  * @since 0.8.0
@@ -45,9 +48,6 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
 
     @SuppressWarnings("unchecked")
     private LinkedHashMap<K, V> map;
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Lock readLock = lock.readLock();
-    private final Lock writeLock = lock.writeLock();
 
     public BMap() {
         map =  new LinkedHashMap<>();
@@ -63,13 +63,8 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @param key key used to get the value
      * @return value
      */
-    public V get(K key) {
-        readLock.lock();
-        try {
-            return map.get(key);
-        } finally {
-            readLock.unlock();
-        }
+    public synchronized V get(K key) {
+        return map.get(key);
     }
 
     /**
@@ -77,20 +72,15 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @param key key related to the value
      * @param value value related to the key
      */
-    public void put(K key, V value) {
-        writeLock.lock();
-        try {
-            map.put(key, value);
-        } finally {
-            writeLock.unlock();
-        }
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
     }
 
     /**
      * Get the size of the map.
      * @return returns the size of the map
      */
-    public int size() {
+    public synchronized int size() {
         return map.size();
     }
 
@@ -98,23 +88,47 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * Remove an item from the map.
      * @param key key of the item to be removed
      */
-    public void remove(K key) {
+    public synchronized void remove(K key) {
         map.remove(key);
     }
 
+    /**
+     * Check whether the map contains the given key.
+     * @param key key to look up
+     * @return true if the map has a value for the key
+     */
+    public synchronized boolean hasKey(K key) {
+        return map.containsKey(key);
+    }
+
     /**
      * Retrieve the set of keys related to this map.
-     * @return returns the set of keys
+     * <p>
+     * The returned set is a read-only view backed by the map. Iterating it while another worker modifies the map
+     * may fail with a {@link java.util.ConcurrentModificationException}; use {@link #keys()} when the map can be
+     * shared.
+     * @return returns a read-only view of the keys, in insertion order
      */
     public Set<K> keySet() {
-        return map.keySet();
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    /**
+     * Retrieve a snapshot of the keys of this map, in insertion order.
+     * <p>
+     * The snapshot is taken under the map's monitor, so it can be iterated safely while other workers modify the
+     * map. Keys removed after the snapshot was taken map to {@code null}.
+     * @return returns the keys of this map
+     */
+    public synchronized List<K> keys() {
+        return new ArrayList<>(map.keySet());
     }
 
     /**Return true if this map is empty.
      *
      * @return Flag indicating whether the map is empty or not
      */
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         return map.size() == 0;
     }
 
@@ -127,12 +141,11 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
     public String stringValue() {
         StringJoiner sj = new StringJoiner(", ", "{", "}");
 
-        for (Iterator<Map.Entry<K, V>> i = map.entrySet().iterator(); i.hasNext();) {
+        for (Map.Entry<K, V> e : entries()) {
 
             String key;
             String stringValue;
 
-            Map.Entry<K, V> e = i.next();
             key = "\"" + (String) e.getKey() + "\"";
             V value = e.getValue();
 
@@ -158,13 +171,24 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
     @Override
     public BValue copy() {
         BMap newMap = BTypes.typeMap.getEmptyValue();
-        for (Map.Entry<K, V> entry: map.entrySet()) {
+        for (Map.Entry<K, V> entry: entries()) {
             BValue value = entry.getValue();
             newMap.put(entry.getKey(), value == null ? null : value.copy());
         }
         return newMap;
     }
 
+    /**
+     * Take a snapshot of the entries so that nested values can be visited without holding this map's monitor.
+     */
+    private synchronized List<Map.Entry<K, V>> entries() {
+        List<Map.Entry<K, V>> entries = new ArrayList<>(map.size());
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+        }
+        return entries;
+    }
+
     @Override
     public String getMessageAsString() {
         return stringValue();
@@ -34,7 +34,15 @@ import java.util.StringJoiner;
  */
 public final class BStruct implements BRefType, StructureType {
 
-    private HashMap<String, Object> nativeData = new HashMap<>();
+    private static final long[] EMPTY_LONG_FIELDS = new long[0];
+    private static final double[] EMPTY_DOUBLE_FIELDS = new double[0];
+    private static final String[] EMPTY_STRING_FIELDS = new String[0];
+    private static final int[] EMPTY_INT_FIELDS = new int[0];
+    private static final byte[][] EMPTY_BYTE_FIELDS = new byte[0][];
+    private static final BRefType[] EMPTY_REF_FIELDS = new BRefType[0];
+
+    // Most structs never carry native data, so the map is created on first use.
+    private HashMap<String, Object> nativeData;
 
     private long[] longFields;
     private double[] doubleFields;
@@ -54,13 +62,29 @@ public final class BStruct implements BRefType, StructureType {
         this.structType = structType;
 
         int[] fieldCount = this.structType.getFieldTypeCount();
-        longFields = new long[fieldCount[0]];
-        doubleFields = new double[fieldCount[1]];
-        stringFields = new String[fieldCount[2]];
-        Arrays.fill(stringFields, "");
-        intFields = new int[fieldCount[3]];
-        byteFields = new byte[fieldCount[4]][];
-        refFields = new BRefType[fieldCount[5]];
+        longFields = fieldCount[0] == 0 ? EMPTY_LONG_FIELDS : new long[fieldCount[0]];
+        doubleFields = fieldCount[1] == 0 ? EMPTY_DOUBLE_FIELDS : new double[fieldCount[1]];
+        if (fieldCount[2] == 0) {
+            stringFields = EMPTY_STRING_FIELDS;
+        } else {
+            stringFields = new String[fieldCount[2]];
+            Arrays.fill(stringFields, "");
+        }
+        intFields = fieldCount[3] == 0 ? EMPTY_INT_FIELDS : new int[fieldCount[3]];
+        byteFields = fieldCount[4] == 0 ? EMPTY_BYTE_FIELDS : new byte[fieldCount[4]][];
+        refFields = fieldCount[5] == 0 ? EMPTY_REF_FIELDS : new BRefType[fieldCount[5]];
+    }
+
+    private BStruct(BStruct other) {
+        this.structType = other.structType;
+
+        // Empty arrays are shared, the rest are copied.
+        longFields = other.longFields.length == 0 ? EMPTY_LONG_FIELDS : other.longFields.clone();
+        doubleFields = other.doubleFields.length == 0 ? EMPTY_DOUBLE_FIELDS : other.doubleFields.clone();
+        stringFields = other.stringFields.length == 0 ? EMPTY_STRING_FIELDS : other.stringFields.clone();
+        intFields = other.intFields.length == 0 ? EMPTY_INT_FIELDS : other.intFields.clone();
+        byteFields = other.byteFields.length == 0 ? EMPTY_BYTE_FIELDS : other.byteFields.clone();
+        refFields = other.refFields.length == 0 ? EMPTY_REF_FIELDS : other.refFields.clone();
     }
 
     /**
@@ -175,14 +199,7 @@ public final class BStruct implements BRefType, StructureType {
 
     @Override
     public BValue copy() {
-        BStruct bStruct = new BStruct(structType);
-        bStruct.longFields = Arrays.copyOf(longFields, longFields.length);
-        bStruct.doubleFields = Arrays.copyOf(doubleFields, doubleFields.length);
-        bStruct.stringFields = Arrays.copyOf(stringFields, stringFields.length);
-        bStruct.intFields = Arrays.copyOf(intFields, intFields.length);
-        bStruct.byteFields = Arrays.copyOf(byteFields, byteFields.length);
-        bStruct.refFields = Arrays.copyOf(refFields, refFields.length);
-        return bStruct;
+        return new BStruct(this);
     }
 
     /**
@@ -192,6 +209,9 @@ public final class BStruct implements BRefType, StructureType {
      * @param data data to be stored
      */
     public void addNativeData(String key, Object data) {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         nativeData.put(key, data);
     }
 
@@ -202,6 +222,6 @@ public final class BStruct implements BRefType, StructureType {
      * @return data which was stored with given key or null if no value corresponding to key
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 }
@@ -17,6 +17,7 @@
 package org.ballerinalang.model.values;
 
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMNamespace;
 import org.apache.axiom.om.OMNode;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
@@ -327,14 +328,14 @@ public abstract class BXML<T> extends BallerinaMessageDataSource implements BRef
      * @param currentElement Current node
      * @param qname Qualified name of the descendants to search
      */
-    protected void addDescendants(List<BXML<?>> descendants, OMElement currentElement, String qname) {
+    protected void addDescendants(List<BXML<?>> descendants, OMElement currentElement, QName qname) {
         Iterator<OMNode> childrenItr = currentElement.getChildren();
         while (childrenItr.hasNext()) {
             OMNode child = childrenItr.next();
             if (child.getType() != OMNode.ELEMENT_NODE) {
                 continue;
             }
-            if (qname.equals(((OMElement) child).getQName().toString())) {
+            if (hasName((OMElement) child, qname)) {
                 descendants.add(new BXMLItem(child));
                 continue;
             }
@@ -342,6 +343,23 @@ public abstract class BXML<T> extends BallerinaMessageDataSource implements BRef
         }
     }
 
+    /**
+     * Check whether an element has the given qualified name. The names are compared part by part, so that no
+     * qualified name string is built for the element, which matters when walking large documents.
+     *
+     * @param element Element to check
+     * @param qname Qualified name to compare with
+     * @return True if the local name and the namespace URI of the element match the given name
+     */
+    protected boolean hasName(OMElement element, QName qname) {
+        if (!qname.getLocalPart().equals(element.getLocalName())) {
+            return false;
+        }
+        OMNamespace namespace = element.getNamespace();
+        String nsUri = namespace == null || namespace.getNamespaceURI() == null ? "" : namespace.getNamespaceURI();
+        return qname.getNamespaceURI().equals(nsUri);
+    }
+
     /**
      * Remove an attribute from the XML.
      * 
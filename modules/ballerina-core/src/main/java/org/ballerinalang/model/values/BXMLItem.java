@@ -379,7 +379,7 @@ public final class BXMLItem extends BXML<OMNode> {
         BRefValueArray elementsSeq = new BRefValueArray();
         switch (nodeType) {
             case ELEMENT:
-                if (getElementName().stringValue().equals(getQname(qname).toString())) {
+                if (hasName((OMElement) omNode, getQname(qname))) {
                     elementsSeq.add(0, this);
                 }
                 break;
@@ -538,7 +538,7 @@ public final class BXMLItem extends BXML<OMNode> {
         List<BXML<?>> descendants = new ArrayList<BXML<?>>();
         switch (nodeType) {
             case ELEMENT:
-                addDescendants(descendants, (OMElement) omNode, getQname(qname).toString());
+                addDescendants(descendants, (OMElement) omNode, getQname(qname));
                 break;
             default:
                 break;
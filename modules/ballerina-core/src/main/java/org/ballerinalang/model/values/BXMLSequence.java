@@ -190,12 +190,11 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
     @Override
     public BXML<?> elements(String qname) {
         BRefValueArray elementsSeq = new BRefValueArray(BTypes.typeXML);
-        String qnameStr = getQname(qname).toString();
+        QName name = getQname(qname);
         int j = 0;
         for (int i = 0; i < sequence.size(); i++) {
             BXMLItem item = (BXMLItem) sequence.get(i);
-            if (item.getNodeType() == XMLNodeType.ELEMENT
-                    && item.getElementName().stringValue().equals(qnameStr)) {
+            if (item.getNodeType() == XMLNodeType.ELEMENT && hasName((OMElement) item.value(), name)) {
                 elementsSeq.add(j++, item);
             }
         }
@@ -330,11 +329,12 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
     @Override
     public BXML<?> descendants(String qname) {
         List<BXML<?>> descendants = new ArrayList<BXML<?>>();
+        QName name = getQname(qname);
         for (int i = 0; i < sequence.size(); i++) {
             BXMLItem element = (BXMLItem) sequence.get(i);
             switch (element.getNodeType()) {
                 case ELEMENT:
-                    addDescendants(descendants, (OMElement) element.value(), getQname(qname).toString());
+                    addDescendants(descendants, (OMElement) element.value(), name);
                     break;
                 default:
                     break;
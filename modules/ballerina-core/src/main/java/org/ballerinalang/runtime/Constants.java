@@ -34,4 +34,12 @@ public class Constants {
 
     // Name of the system property to hold the debug port
     public static final String SYSTEM_PROP_BAL_DEBUG = "ballerina.debug";
+
+    // Thread pool configuration keys read from the Ballerina config registry
+    public static final String SCHEDULER_POOL_SIZE = "ballerina.scheduler.poolSize";
+    public static final String SCHEDULER_QUEUE_CAPACITY = "ballerina.scheduler.queueCapacity";
+    public static final String SCHEDULER_WORKER_POOL_SIZE = "ballerina.scheduler.worker.poolSize";
+    public static final String SCHEDULER_WORKER_POOL_TYPE = "ballerina.scheduler.worker.poolType";
+    public static final String SCHEDULER_POOL_TYPE_WORK_STEALING = "workStealing";
+    public static final String SCHEDULER_OVERFLOW_POOL_SIZE = "ballerina.scheduler.overflow.poolSize";
 }
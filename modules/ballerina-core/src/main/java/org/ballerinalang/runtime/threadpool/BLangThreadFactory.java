@@ -18,15 +18,18 @@
 
 package org.ballerinalang.runtime.threadpool;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * {@code BLangThreadFactory} creates a thread factory with a given prefix.
+ * {@code BLangThreadFactory} creates a thread factory with a given prefix. It creates the threads of both plain
+ * thread pools, in the given thread group, and {@link ForkJoinPool}s.
  *
  * @since 1.0.0
  */
-public class BLangThreadFactory implements ThreadFactory {
+public class BLangThreadFactory implements ThreadFactory, ForkJoinPool.ForkJoinWorkerThreadFactory {
 
     private final AtomicInteger threadNumber = new AtomicInteger(1);
     private final ThreadGroup group;
@@ -52,4 +55,34 @@ public class BLangThreadFactory implements ThreadFactory {
         }
         return t;
     }
+
+    /**
+     * Creates a worker thread of a fork-join pool. It is named with the prefix of this factory, but it joins the
+     * thread group of the thread which creates it, as a fork-join worker thread can not be given a thread group.
+     *
+     * @param pool the pool the thread works for
+     * @return the worker thread
+     */
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread t = new BLangForkJoinWorkerThread(pool);
+        t.setName(namePrefix + threadNumber.getAndIncrement());
+        if (t.isDaemon()) {
+            t.setDaemon(false);
+        }
+        if (t.getPriority() != Thread.NORM_PRIORITY) {
+            t.setPriority(Thread.NORM_PRIORITY);
+        }
+        return t;
+    }
+
+    /**
+     * Worker thread of a fork-join pool, the constructor of {@link ForkJoinWorkerThread} is protected.
+     */
+    private static class BLangForkJoinWorkerThread extends ForkJoinWorkerThread {
+
+        private BLangForkJoinWorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+    }
 }
@@ -18,30 +18,70 @@
 
 package org.ballerinalang.runtime.threadpool;
 
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.runtime.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@code ThreadPoolFactory} holds the thread pools in Ballerina engine.
+ * <p>
+ * Pool sizes and queue capacities are read from the Ballerina configuration. When the queue of the
+ * {@code BLangWorker} pool is full, new submissions are rejected with a
+ * {@link RejectedExecutionException} so that server connectors can apply back-pressure. Work which continues an
+ * already accepted request must not be dropped, so it is handed to a separate overflow pool instead (see
+ * {@link #executeResumption(Runnable)}).
  *
  * @since 0.8.0
  */
 public class ThreadPoolFactory {
 
+    private static final Logger log = LoggerFactory.getLogger(ThreadPoolFactory.class);
+
+    private static final int DEFAULT_POOL_SIZE = 500;
+    private static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_WORKER_POOL_SIZE = 100;
+    private static final int DEFAULT_OVERFLOW_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
     private static ThreadPoolFactory instance = new ThreadPoolFactory();
 
-    //TODO: Make the thread count configurable.
-    // Ideally number of threads need to be calculated and spawned intelligently
-    // based on the environment and runtime status (CPU Usage, memory, etc).
-    // A configuration parameter which is user configurable is also required.
-    // Issue#1929
-    private ExecutorService executorService =  Executors.newFixedThreadPool(500, new BLangThreadFactory("BLangWorker"));
+    private ExecutorService executorService;
+
+    private ExecutorService workerExecutor;
 
-    //TODO: Make the number of threads configurable
-    private ExecutorService workerExecutor = Executors.newFixedThreadPool(100,
-            new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+    private ExecutorService overflowExecutor;
 
-    private ThreadPoolFactory(){};
+    private ThreadPoolFactory() {
+        int poolSize = getPositiveIntConfig(Constants.SCHEDULER_POOL_SIZE, DEFAULT_POOL_SIZE);
+        int queueCapacity = getPositiveIntConfig(Constants.SCHEDULER_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
+        executorService = createFixedThreadPool(poolSize, queueCapacity, new BLangThreadFactory("BLangWorker"));
+
+        // The number of queued resumptions is bounded by the number of requests already admitted to the
+        // BLangWorker pool, hence the queue of the overflow pool can be left unbounded.
+        int overflowPoolSize = getPositiveIntConfig(Constants.SCHEDULER_OVERFLOW_POOL_SIZE,
+                DEFAULT_OVERFLOW_POOL_SIZE);
+        overflowExecutor = createFixedThreadPool(overflowPoolSize, Integer.MAX_VALUE,
+                new BLangThreadFactory("BLangOverflowWorker"));
+
+        int workerPoolSize = getPositiveIntConfig(Constants.SCHEDULER_WORKER_POOL_SIZE, DEFAULT_WORKER_POOL_SIZE);
+        String workerPoolType = ConfigRegistry.getInstance()
+                .getGlobalConfigValue(Constants.SCHEDULER_WORKER_POOL_TYPE);
+        if (Constants.SCHEDULER_POOL_TYPE_WORK_STEALING.equalsIgnoreCase(workerPoolType.trim())) {
+            workerExecutor = createWorkStealingPool(workerPoolSize, new BLangThreadFactory("worker-thread-pool"));
+        } else {
+            // Workers of a fork-join or a function wait on each other, hence this queue is left unbounded
+            // to avoid rejecting a worker whose siblings are already running.
+            workerExecutor = createFixedThreadPool(workerPoolSize, Integer.MAX_VALUE,
+                    new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+        }
+    }
 
     public static ThreadPoolFactory getInstance() {
         return instance;
@@ -55,4 +95,149 @@ public class ThreadPoolFactory {
         return workerExecutor;
     }
 
+    public ExecutorService getOverflowExecutor() {
+        return overflowExecutor;
+    }
+
+    /**
+     * Executes a task which resumes an already accepted request, such as the continuation of a non-blocking
+     * action. Such a task must never be dropped, nor run on the calling thread, which usually is a transport I/O
+     * thread. It runs on the {@code BLangWorker} pool, or on the overflow pool when that one is saturated.
+     *
+     * @param task task resuming a request
+     */
+    public void executeResumption(Runnable task) {
+        executeWithOverflow(executorService, overflowExecutor, task);
+    }
+
+    /**
+     * Executes the task on the given executor, falling back to the overflow executor if it is rejected.
+     *
+     * @param executor         executor to try first
+     * @param overflowExecutor executor used when the first one rejects the task
+     * @param task             task to execute
+     */
+    public static void executeWithOverflow(ExecutorService executor, ExecutorService overflowExecutor,
+                                           Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("executor is saturated, handing the task over to the overflow executor");
+            }
+            overflowExecutor.execute(task);
+        }
+    }
+
+    /**
+     * Returns the number of tasks waiting in the queue of the {@code BLangWorker} pool.
+     *
+     * @return queued task count
+     */
+    public int getExecutorQueueDepth() {
+        return getQueueDepth(executorService);
+    }
+
+    /**
+     * Returns the approximate number of threads of the {@code BLangWorker} pool which are executing tasks.
+     *
+     * @return active thread count
+     */
+    public int getExecutorActiveCount() {
+        return getActiveCount(executorService);
+    }
+
+    /**
+     * Returns the number of tasks waiting in the queue of the worker pool.
+     *
+     * @return queued task count
+     */
+    public int getWorkerExecutorQueueDepth() {
+        return getQueueDepth(workerExecutor);
+    }
+
+    /**
+     * Returns the approximate number of threads of the worker pool which are executing tasks.
+     *
+     * @return active thread count
+     */
+    public int getWorkerExecutorActiveCount() {
+        return getActiveCount(workerExecutor);
+    }
+
+    /**
+     * Creates a fixed size thread pool which rejects new tasks with a {@link RejectedExecutionException} once
+     * the given number of tasks is queued.
+     *
+     * @param poolSize      number of threads
+     * @param queueCapacity maximum number of queued tasks
+     * @param threadFactory factory of the pool threads
+     * @return the thread pool
+     */
+    public static ExecutorService createFixedThreadPool(int poolSize, int queueCapacity,
+                                                        BLangThreadFactory threadFactory) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Creates a work stealing pool whose threads are named by the given thread factory.
+     *
+     * @param parallelism   target number of threads
+     * @param threadFactory factory of the pool threads
+     * @return the thread pool
+     */
+    public static ExecutorService createWorkStealingPool(int parallelism, BLangThreadFactory threadFactory) {
+        return new ForkJoinPool(parallelism, threadFactory, null, true);
+    }
+
+    private static int getQueueDepth(ExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getQueue().size();
+        }
+        if (executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            return (int) Math.min(Integer.MAX_VALUE, pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount());
+        }
+        return 0;
+    }
+
+    private static int getActiveCount(ExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getActiveCount();
+        }
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getActiveThreadCount();
+        }
+        return 0;
+    }
+
+    private static int getPositiveIntConfig(String key, int defaultValue) {
+        return toPositiveInt(key, ConfigRegistry.getInstance().getGlobalConfigValue(key), defaultValue);
+    }
+
+    /**
+     * Parses a positive integer pool setting.
+     *
+     * @param key          configuration key, used for logging
+     * @param value        configured value, empty if not configured
+     * @param defaultValue value used when nothing or an invalid value is configured
+     * @return the configured value, or the default value
+     */
+    public static int toPositiveInt(String key, String value, int defaultValue) {
+        value = value.trim();
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value);
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException ignore) {
+            // fall through to the default value
+        }
+        log.warn("invalid value '" + value + "' for " + key + ", using the default value " + defaultValue);
+        return defaultValue;
+    }
 }
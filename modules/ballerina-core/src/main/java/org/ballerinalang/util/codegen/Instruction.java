@@ -21,14 +21,23 @@ import java.util.Arrays;
 
 /**
  * {@code Instruction} represents an bytecode instruction in Ballerina.
+ * <p>
+ * Instructions read from a program file are shared between all the code locations which contain the same opcode
+ * and operands, hence they must not be modified once loaded.
  *
  * @since 0.87
  */
 public class Instruction {
 
-    int opcode;
-    int[] operands;
+    private final int opcode;
+    private final int[] operands;
 
+    /**
+     * Creates an instruction which takes ownership of the given operand array.
+     *
+     * @param opcode   opcode of the instruction
+     * @param operands operands, not to be modified by the caller afterwards
+     */
     Instruction(int opcode, int... operands) {
         this.opcode = opcode;
         this.operands = operands;
@@ -38,14 +47,16 @@ public class Instruction {
         return opcode;
     }
 
+    /**
+     * Returns the operands of this instruction. The array is not copied, as it is fetched for every instruction
+     * executed, and must not be modified.
+     *
+     * @return operands of this instruction
+     */
     public int[] getOperands() {
         return operands;
     }
 
-    public void setOperand(int index, int value) {
-        operands[index] = value;
-    }
-
     @Override
     public String toString() {
         return "Instruction{" +
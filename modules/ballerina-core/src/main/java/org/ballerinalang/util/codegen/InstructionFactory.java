@@ -24,8 +24,12 @@ package org.ballerinalang.util.codegen;
  */
 public class InstructionFactory {
 
+    private static final int[] NO_OPERANDS = new int[0];
+
     public static Instruction get(int opcode, int... operands) {
         // TODO Implement subtypes of certain instructions. etc for call, ret bytecodes
-        return new Instruction(opcode, operands);
+        // The operands are copied, so that an instruction can not be changed through the caller's array once it is
+        // shared.
+        return new Instruction(opcode, operands.length == 0 ? NO_OPERANDS : operands.clone());
     }
 }
@@ -59,12 +59,11 @@ import org.ballerinalang.util.codegen.cpentries.WrkrInteractionArgsCPEntry;
 import org.ballerinalang.util.exceptions.BLangRuntimeException;
 import org.ballerinalang.util.exceptions.ProgramFileFormatException;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -90,20 +89,32 @@ public class ProgramFileReader {
 
     private List<ConstantPoolEntry> unresolvedCPEntries = new ArrayList<>();
 
+    // Identical instructions are shared, since programs repeat the same few opcode and register combinations.
+    // Only needed while a program is being read.
+    private Map<InstructionKey, Instruction> instructionCache;
+
     public ProgramFile readProgram(Path programFilePath) throws IOException {
-        InputStream fileIS = null;
-        try {
-            programFile = new ProgramFile();
-            programFile.setProgramFilePath(programFilePath);
-            fileIS = Files.newInputStream(programFilePath, StandardOpenOption.READ, LinkOption.NOFOLLOW_LINKS);
-            BufferedInputStream bufferedIS = new BufferedInputStream(fileIS);
-            DataInputStream dataInStream = new DataInputStream(bufferedIS);
-            return readProgramInternal(dataInStream);
-        } finally {
-            if (fileIS != null) {
-                fileIS.close();
+        programFile = new ProgramFile();
+        programFile.setProgramFilePath(programFilePath);
+        // The program file is read into a heap buffer at once and decoded through an unsynchronized stream, which
+        // avoids the per read locking of the buffered streams. It is not memory mapped, as a mapping keeps the file
+        // locked on some platforms until the buffer is garbage collected.
+        ByteBuffer buffer;
+        try (FileChannel fileChannel = FileChannel.open(programFilePath, StandardOpenOption.READ,
+                LinkOption.NOFOLLOW_LINKS)) {
+            long size = fileChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("program file is too large: " + programFilePath);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            int bytesRead = 0;
+            while (buffer.hasRemaining() && bytesRead != -1) {
+                bytesRead = fileChannel.read(buffer);
             }
         }
+        buffer.flip();
+        DataInputStream dataInStream = new DataInputStream(new ByteBufferInputStream(buffer));
+        return readProgramInternal(dataInStream);
     }
 
     public ProgramFile readProgram(InputStream programFileInStream) throws IOException {
@@ -120,6 +131,15 @@ public class ProgramFileReader {
     }
 
     private ProgramFile readProgramInternal(DataInputStream dataInStream) throws IOException {
+        instructionCache = new HashMap<>();
+        try {
+            return readProgramFile(dataInStream);
+        } finally {
+            instructionCache = null;
+        }
+    }
+
+    private ProgramFile readProgramFile(DataInputStream dataInStream) throws IOException {
         int magicNumber = dataInStream.readInt();
         if (magicNumber != MAGIC_NUMBER) {
             throw new BLangRuntimeException("ballerina: invalid magic number " + magicNumber);
@@ -1327,9 +1347,8 @@ public class ProgramFileReader {
                                   PackageInfo packageInfo) throws IOException {
         int codeLength = dataInStream.readInt();
         byte[] code = new byte[codeLength];
-        // Ignore bytes read should be same as the code length.
-        dataInStream.read(code);
-        DataInputStream codeStream = new DataInputStream(new ByteArrayInputStream(code));
+        dataInStream.readFully(code);
+        DataInputStream codeStream = new DataInputStream(new ByteBufferInputStream(ByteBuffer.wrap(code)));
         while (codeStream.available() > 0) {
             int i, j, k, h;
             int opcode = codeStream.readUnsignedByte();
@@ -1338,7 +1357,7 @@ public class ProgramFileReader {
                 case InstructionCodes.RET:
                 case InstructionCodes.WRKSTART:
                 case InstructionCodes.WRKRETURN:
-                    packageInfo.addInstruction(InstructionFactory.get(opcode));
+                    packageInfo.addInstruction(intern(InstructionFactory.get(opcode)));
                     break;
 
                 case InstructionCodes.ICONST_0:
@@ -1365,7 +1384,7 @@ public class ProgramFileReader {
                 case InstructionCodes.NEWMAP:
                 case InstructionCodes.NEWDATATABLE:
                     i = codeStream.readInt();
-                    packageInfo.addInstruction(InstructionFactory.get(opcode, i));
+                    packageInfo.addInstruction(intern(InstructionFactory.get(opcode, i)));
                     break;
 
                 case InstructionCodes.ICONST:
@@ -1437,7 +1456,7 @@ public class ProgramFileReader {
                 case InstructionCodes.TCALL:
                     i = codeStream.readInt();
                     j = codeStream.readInt();
-                    packageInfo.addInstruction(InstructionFactory.get(opcode, i, j));
+                    packageInfo.addInstruction(intern(InstructionFactory.get(opcode, i, j)));
                     break;
 
                 case InstructionCodes.IALOAD:
@@ -1556,7 +1575,7 @@ public class ProgramFileReader {
                     i = codeStream.readInt();
                     j = codeStream.readInt();
                     k = codeStream.readInt();
-                    packageInfo.addInstruction(InstructionFactory.get(opcode, i, j, k));
+                    packageInfo.addInstruction(intern(InstructionFactory.get(opcode, i, j, k)));
                     break;
                 case InstructionCodes.ANY2E:
                 case InstructionCodes.ANY2T:
@@ -1570,7 +1589,7 @@ public class ProgramFileReader {
                     j = codeStream.readInt();
                     k = codeStream.readInt();
                     h = codeStream.readInt();
-                    packageInfo.addInstruction(InstructionFactory.get(opcode, i, j, k, h));
+                    packageInfo.addInstruction(intern(InstructionFactory.get(opcode, i, j, k, h)));
                     break;
                 default:
                     throw new ProgramFileFormatException("unknown opcode " + opcode +
@@ -1707,4 +1726,80 @@ public class ProgramFileReader {
         }
         return defaultValue;
     }
+
+    private Instruction intern(Instruction instruction) {
+        return instructionCache.computeIfAbsent(new InstructionKey(instruction), key -> instruction);
+    }
+
+    /**
+     * Compares instructions by value, to find identical instructions while loading.
+     */
+    private static class InstructionKey {
+
+        private final Instruction instruction;
+        private final int hashCode;
+
+        InstructionKey(Instruction instruction) {
+            this.instruction = instruction;
+            this.hashCode = 31 * instruction.getOpcode() + Arrays.hashCode(instruction.getOperands());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof InstructionKey)) {
+                return false;
+            }
+            Instruction other = ((InstructionKey) obj).instruction;
+            return instruction.getOpcode() == other.getOpcode()
+                    && Arrays.equals(instruction.getOperands(), other.getOperands());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * An {@link InputStream} over a {@link ByteBuffer}. Unlike the buffered JDK streams it does not synchronize
+     * on every read, which matters as the program file is decoded a few bytes at a time.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
@@ -17,6 +17,9 @@
 */
 package org.ballerinalang.util.codegen.cpentries;
 
+import org.ballerinalang.model.types.BConnectorType;
+import org.ballerinalang.util.codegen.ActionInfo;
+
 import java.util.Objects;
 
 /**
@@ -34,6 +37,9 @@ public class ActionRefCPEntry implements ConstantPoolEntry {
     private int nameCPIndex;
     private String actionName;
 
+    // Action resolved for the last connector type invoked through this entry
+    private volatile ResolvedAction resolvedAction;
+
     public ActionRefCPEntry(int packageCPIndex, String packagePath, int nameCPIndex, String actionName) {
         this.packageCPIndex = packageCPIndex;
         this.packagePath = packagePath;
@@ -57,6 +63,24 @@ public class ActionRefCPEntry implements ConstantPoolEntry {
         return actionName;
     }
 
+    /**
+     * Returns the cached action of the given connector type, if it is the type last invoked through this entry.
+     *
+     * @param connectorType actual type of the connector the action is invoked on
+     * @return the resolved action, or null if the type is not cached
+     */
+    public ActionInfo getResolvedActionInfo(BConnectorType connectorType) {
+        ResolvedAction resolved = this.resolvedAction;
+        if (resolved != null && resolved.connectorType == connectorType) {
+            return resolved.actionInfo;
+        }
+        return null;
+    }
+
+    public void setResolvedActionInfo(BConnectorType connectorType, ActionInfo actionInfo) {
+        this.resolvedAction = new ResolvedAction(connectorType, actionInfo);
+    }
+
     public EntryType getEntryType() {
         return EntryType.CP_ENTRY_ACTION_REF;
     }
@@ -71,4 +95,17 @@ public class ActionRefCPEntry implements ConstantPoolEntry {
         return obj instanceof ActionRefCPEntry && packageCPIndex == (((ActionRefCPEntry) obj).packageCPIndex) &&
                 nameCPIndex == ((ActionRefCPEntry) obj).nameCPIndex;
     }
+
+    /**
+     * A connector type and its action, kept together so that both are published atomically.
+     */
+    private static class ResolvedAction {
+        private final BConnectorType connectorType;
+        private final ActionInfo actionInfo;
+
+        private ResolvedAction(BConnectorType connectorType, ActionInfo actionInfo) {
+            this.connectorType = connectorType;
+            this.actionInfo = actionInfo;
+        }
+    }
 }
@@ -335,9 +335,29 @@ public struct HttpConnectorError {
 @Description { value:"Retry struct represents retry related options for HTTP client invocation" }
 @Field {value:"count: Number of retries"}
 @Field {value:"interval: Retry interval in millisecond"}
+@Field {value:"maxWaitInterval: Upper limit of the retry interval in millisecond"}
+@Field {value:"backOffFactor: Multiplier of the retry interval for each subsequent retry"}
+@Field {value:"jitter: Randomize the retry interval between half and the full interval"}
+@Field {value:"statusCodes: HTTP response status codes which are considered as failures to be retried"}
 struct Retry {
     int count;
     int interval;
+    int maxWaitInterval;
+    float backOffFactor = 1.0;
+    boolean jitter;
+    int[] statusCodes;
+}
+
+@Description { value:"CircuitBreaker struct represents circuit breaker related options for HTTP client invocation" }
+@Field {value:"failureThreshold: Ratio of failed requests within the rolling window which opens the circuit"}
+@Field {value:"resetTimeout: Time in millisecond the circuit stays open before a trial request is sent. Defaults to 30000"}
+@Field {value:"rollingWindow: Time window in millisecond over which the failure ratio is calculated"}
+@Field {value:"requestVolumeThreshold: Minimum number of requests within the rolling window before the circuit can open"}
+struct CircuitBreaker {
+    float failureThreshold;
+    int resetTimeout = 30000;
+    int rollingWindow = 60000;
+    int requestVolumeThreshold = 10;
 }
 
 @Description { value:"SSL struct represents SSL/TLS options to be used for HTTP client invocation" }
@@ -386,6 +406,8 @@ struct Proxy {
 @Field {value:"ssl: ssl/tls related options"}
 @Field {value:"retryConfig: Retry related options"}
 @Field {value:"proxy: Proxy server related options"}
+@Field {value:"maxActiveRequests: Maximum number of concurrent requests to the remote service, 0 for no limit"}
+@Field {value:"circuitBreaker: Circuit breaker related options"}
 public struct Options {
     int port;
     int endpointTimeout = 60000;
@@ -394,6 +416,8 @@ public struct Options {
     SSL ssl;
     Retry retryConfig;
     Proxy proxy;
+    int maxActiveRequests;
+    CircuitBreaker circuitBreaker;
 }
 
 @Description { value:"Http client connector for outbound HTTP requests"}
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.net.http;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
 import org.ballerinalang.connector.api.ConnectorFuture;
 import org.ballerinalang.connector.api.ConnectorFutureListener;
 import org.ballerinalang.connector.api.Executor;
@@ -28,6 +29,7 @@ import org.wso2.transport.http.netty.message.HTTPCarbonMessage;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * HTTP connector listener for Ballerina.
@@ -47,7 +49,15 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             properties = Collections.singletonMap(Constants.SRC_HANDLER, srcHandler);
         }
         BValue[] signatureParams = HttpDispatcher.getSignatureParameters(httpResource, httpCarbonMessage);
-        ConnectorFuture future = Executor.submit(httpResource.getBalResource(), properties, signatureParams);
+        ConnectorFuture future;
+        try {
+            future = Executor.submit(httpResource.getBalResource(), properties, signatureParams);
+        } catch (RejectedExecutionException e) {
+            log.warn("rejecting request, Ballerina worker pool is saturated");
+            HttpUtil.handleResponse(httpCarbonMessage,
+                    HttpUtil.createErrorMessage("", HttpResponseStatus.SERVICE_UNAVAILABLE.code()));
+            return;
+        }
         ConnectorFutureListener futureListener = new HttpConnectorFutureListener(httpCarbonMessage);
         future.setConnectorFutureListener(futureListener);
     }
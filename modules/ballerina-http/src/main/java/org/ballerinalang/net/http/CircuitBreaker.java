@@ -0,0 +1,245 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.net.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code CircuitBreaker} guards the outbound requests of an HTTP client endpoint.
+ * <p>
+ * The circuit opens when the failure rate within the rolling window reaches the failure threshold, provided that
+ * at least {@code requestVolumeThreshold} requests were made in the window. While open, requests fail fast. After
+ * the reset timeout a single probe request is let through; its outcome closes or re-opens the circuit.
+ * Independently, at most {@code maxActiveRequests} requests may be in flight at once (bulkhead).
+ * <p>
+ * Every admitted request holds a {@link Permit} which records the state the request was admitted in. Outcomes of
+ * requests admitted before the last state change only release their slot; they never affect the current state.
+ *
+ * @since 0.95.1
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final int BUCKET_COUNT = 10;
+
+    /**
+     * Reset timeout in milliseconds used when none is configured.
+     */
+    public static final long DEFAULT_RESET_TIMEOUT = 30000;
+
+    /**
+     * Rolling window in milliseconds used when none is configured.
+     */
+    public static final long DEFAULT_ROLLING_WINDOW = 60000;
+
+    /**
+     * States of the circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Permit held by an admitted request until its outcome is reported.
+     */
+    public static final class Permit {
+
+        private final long generation;
+        private final boolean probe;
+        private boolean released;
+
+        private Permit(long generation, boolean probe) {
+            this.generation = generation;
+            this.probe = probe;
+        }
+
+        public boolean isProbe() {
+            return probe;
+        }
+    }
+
+    private final String endpoint;
+    private final double failureThreshold;
+    private final long resetTimeout;
+    private final long bucketSize;
+    private final long requestVolumeThreshold;
+    private final long maxActiveRequests;
+
+    private final long[] bucketIds = new long[BUCKET_COUNT];
+    private final long[] requestCounts = new long[BUCKET_COUNT];
+    private final long[] failureCounts = new long[BUCKET_COUNT];
+
+    private State state = State.CLOSED;
+    // Incremented on every state change, so that permits from an earlier state can be told apart.
+    private long generation;
+    private long openedTime;
+    private boolean probeInFlight;
+    private long activeRequests;
+    private long rejectedRequests;
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param endpoint               endpoint guarded by this circuit breaker, used for logging
+     * @param failureThreshold       failure rate in the range (0, 1] which opens the circuit, 0 to disable it
+     * @param resetTimeout           time in milliseconds the circuit stays open before a probe request, or 0 for
+     *                               {@link #DEFAULT_RESET_TIMEOUT}
+     * @param rollingWindow          time in milliseconds over which the failure rate is computed, or 0 for
+     *                               {@link #DEFAULT_ROLLING_WINDOW}
+     * @param requestVolumeThreshold minimum number of requests in the window before the circuit can open
+     * @param maxActiveRequests      maximum number of concurrent requests, 0 for no limit
+     */
+    public CircuitBreaker(String endpoint, double failureThreshold, long resetTimeout, long rollingWindow,
+                          long requestVolumeThreshold, long maxActiveRequests) {
+        this.endpoint = endpoint;
+        this.failureThreshold = failureThreshold;
+        this.resetTimeout = resetTimeout > 0 ? resetTimeout : DEFAULT_RESET_TIMEOUT;
+        this.bucketSize = Math.max(1, (rollingWindow > 0 ? rollingWindow : DEFAULT_ROLLING_WINDOW) / BUCKET_COUNT);
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.maxActiveRequests = maxActiveRequests;
+    }
+
+    /**
+     * Acquires a permit to send a request. A granted permit must be passed to exactly one call of
+     * {@link #onSuccess(Permit)} or {@link #onFailure(Permit)}; further calls with the same permit are ignored.
+     *
+     * @return the permit, or null if the request should fail fast
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedTime < resetTimeout) {
+                rejectedRequests++;
+                return null;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN && probeInFlight) {
+            rejectedRequests++;
+            return null;
+        }
+        if (maxActiveRequests > 0 && activeRequests >= maxActiveRequests) {
+            rejectedRequests++;
+            return null;
+        }
+        boolean probe = state == State.HALF_OPEN;
+        if (probe) {
+            probeInFlight = true;
+        }
+        activeRequests++;
+        return new Permit(generation, probe);
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        release(permit, false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        release(permit, true);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized long getActiveRequests() {
+        return activeRequests;
+    }
+
+    public synchronized long getRejectedRequests() {
+        return rejectedRequests;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    private void release(Permit permit, boolean failed) {
+        if (permit.released) {
+            return;
+        }
+        permit.released = true;
+        activeRequests--;
+        if (permit.generation != generation) {
+            // Admitted before the last state change, the outcome says nothing about the current state.
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (permit.probe) {
+            probeInFlight = false;
+            if (failed) {
+                openedTime = now;
+                transitionTo(State.OPEN);
+            } else {
+                resetBuckets();
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        long bucketId = now / bucketSize;
+        int index = (int) (bucketId % BUCKET_COUNT);
+        if (bucketIds[index] != bucketId) {
+            bucketIds[index] = bucketId;
+            requestCounts[index] = 0;
+            failureCounts[index] = 0;
+        }
+        requestCounts[index]++;
+        if (!failed) {
+            return;
+        }
+        failureCounts[index]++;
+
+        if (failureThreshold <= 0) {
+            return;
+        }
+        long requests = 0;
+        long failures = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (bucketIds[i] > bucketId - BUCKET_COUNT) {
+                requests += requestCounts[i];
+                failures += failureCounts[i];
+            }
+        }
+        if (requests >= requestVolumeThreshold && failures >= failureThreshold * requests) {
+            openedTime = now;
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void resetBuckets() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketIds[i] = 0;
+            requestCounts[i] = 0;
+            failureCounts[i] = 0;
+        }
+    }
+
+    private void transitionTo(State newState) {
+        if (log.isDebugEnabled()) {
+            log.debug("circuit breaker of " + endpoint + " changed state from " + state + " to " + newState);
+        }
+        state = newState;
+        generation++;
+    }
+}
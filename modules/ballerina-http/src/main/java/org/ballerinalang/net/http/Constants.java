@@ -172,6 +172,22 @@ public class Constants {
     public static final int RETRY_STRUCT_INDEX = 2;
     public static final int RETRY_COUNT_INDEX = 0;
     public static final int RETRY_INTERVAL_INDEX = 1;
+    public static final int RETRY_MAX_WAIT_INTERVAL_INDEX = 2;
+    public static final int RETRY_BACKOFF_FACTOR_INDEX = 0;
+    public static final int RETRY_JITTER_INDEX = 0;
+    public static final int RETRY_STATUS_CODES_INDEX = 0;
+
+    //Circuit breaker struct indexes
+    public static final int MAX_ACTIVE_REQUESTS_INDEX = 2;
+    public static final int CIRCUIT_BREAKER_STRUCT_INDEX = 4;
+    public static final int CB_FAILURE_THRESHOLD_INDEX = 0;
+    public static final int CB_RESET_TIMEOUT_INDEX = 0;
+    public static final int CB_ROLLING_WINDOW_INDEX = 1;
+    public static final int CB_REQUEST_VOLUME_THRESHOLD_INDEX = 2;
+
+    //Native data keys of the HTTP client connector
+    public static final String CLIENT_CONNECTORS = "http_client_connectors";
+    public static final String CIRCUIT_BREAKER = "http_circuit_breaker";
 
     /**
      * Content type HTTP header.
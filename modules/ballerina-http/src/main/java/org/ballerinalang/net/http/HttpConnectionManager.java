@@ -49,10 +49,12 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
 import java.util.logging.LogManager;
 
 /**
@@ -62,6 +64,8 @@ import java.util.logging.LogManager;
  */
 public class HttpConnectionManager {
 
+    private static final int MAX_SHARED_CLIENT_ENTRIES = 128;
+
     private static HttpConnectionManager instance = new HttpConnectionManager();
     private Map<String, org.wso2.transport.http.netty.contract.ServerConnector>
             startupDelayedHTTPServerConnectors = new HashMap<>();
@@ -73,6 +77,9 @@ public class HttpConnectionManager {
     private ServerBootstrapConfiguration serverBootstrapConfiguration;
     private TransportsConfiguration trpConfig;
     private HttpWsConnectorFactory httpConnectorFactory = new HttpWsConnectorFactoryImpl();
+    private final Map<String, SharedClientConnector> clientConnectorPool =
+            createBoundedCache(HttpConnectionManager::closeEvicted);
+    private final Map<String, CircuitBreaker> circuitBreakers = createBoundedCache(null);
 
     private HttpConnectionManager() {
         String nettyConfigFile = System.getProperty(Constants.HTTP_TRANSPORT_CONF,
@@ -170,22 +177,175 @@ public class HttpConnectionManager {
         startupDelayedHTTPServerConnectors.clear();
     }
 
+    /**
+     * Returns a client connector for the given scheme and connector options. Client connectors, and hence their
+     * connection pools, are shared between all the connector instances which have the same scheme and sender
+     * settings. The client connector is resolved once per connector instance and kept in its native data, so the
+     * options are only read on the first call. Options carrying a password are never shared with other connector
+     * instances.
+     *
+     * @param scheme     scheme of the outbound request
+     * @param bConnector Ballerina connector invoking the action
+     * @return client connector
+     */
     public HttpClientConnector getHTTPHttpClientConnector(String scheme, BConnector bConnector) {
+        boolean httpTraceLogEnabled = isHTTPTraceLoggerEnabled();
+        String connectorKey = httpTraceLogEnabled ? scheme + ":trace" : scheme;
+        synchronized (bConnector) {
+            BStruct options = (BStruct) bConnector.getRefField(Constants.OPTIONS_STRUCT_INDEX);
+            ClientConnectors clientConnectors = (ClientConnectors) bConnector.getnativeData(
+                    Constants.CLIENT_CONNECTORS);
+            if (clientConnectors == null) {
+                clientConnectors = new ClientConnectors(HttpUtil.getClientConnectorKey(options));
+                bConnector.setNativeData(Constants.CLIENT_CONNECTORS, clientConnectors);
+            }
+            SharedClientConnector clientConnector = clientConnectors.connectors.get(connectorKey);
+            if (clientConnector == null || clientConnector.evicted) {
+                clientConnector = getSharedClientConnector(clientConnectors.sharedKey, connectorKey, scheme, options,
+                        httpTraceLogEnabled);
+                clientConnectors.connectors.put(connectorKey, clientConnector);
+            }
+            return clientConnector.connector;
+        }
+    }
+
+    private SharedClientConnector getSharedClientConnector(String sharedKey, String connectorKey, String scheme,
+                                                           BStruct options, boolean httpTraceLogEnabled) {
+        if (sharedKey == null) {
+            return new SharedClientConnector(createHttpClientConnector(scheme, options, httpTraceLogEnabled));
+        }
+        String poolKey = connectorKey + ":" + sharedKey;
+        synchronized (clientConnectorPool) {
+            SharedClientConnector clientConnector = clientConnectorPool.get(poolKey);
+            if (clientConnector == null) {
+                clientConnector = new SharedClientConnector(
+                        createHttpClientConnector(scheme, options, httpTraceLogEnabled));
+                clientConnectorPool.put(poolKey, clientConnector);
+            }
+            return clientConnector;
+        }
+    }
+
+    private static void closeEvicted(SharedClientConnector clientConnector) {
+        // Connector instances which resolved this client connector resolve a new one on their next call
+        clientConnector.evicted = true;
+        clientConnector.connector.close();
+    }
+
+    /**
+     * Returns the circuit breaker guarding the remote service of the given connector. Circuit breakers are shared
+     * between all the connector instances which have the same service URI and circuit breaker settings. The circuit
+     * breaker is resolved once per connector instance and kept in its native data.
+     *
+     * @param bConnector Ballerina connector invoking the action
+     * @return shared circuit breaker, or null if neither a circuit breaker nor a request limit is configured
+     */
+    public CircuitBreaker getCircuitBreaker(BConnector bConnector) {
+        BStruct options = (BStruct) bConnector.getRefField(Constants.OPTIONS_STRUCT_INDEX);
+        if (options == null) {
+            return null;
+        }
+        long maxActiveRequests = options.getIntField(Constants.MAX_ACTIVE_REQUESTS_INDEX);
+        BStruct circuitBreakerConfig = (BStruct) options.getRefField(Constants.CIRCUIT_BREAKER_STRUCT_INDEX);
+        double failureThreshold = circuitBreakerConfig == null ? 0 :
+                circuitBreakerConfig.getFloatField(Constants.CB_FAILURE_THRESHOLD_INDEX);
+        if (maxActiveRequests <= 0 && failureThreshold <= 0) {
+            return null;
+        }
+
+        synchronized (bConnector) {
+            CircuitBreaker circuitBreaker = (CircuitBreaker) bConnector.getnativeData(Constants.CIRCUIT_BREAKER);
+            if (circuitBreaker == null) {
+                circuitBreaker = getSharedCircuitBreaker(bConnector.getStringField(0), circuitBreakerConfig,
+                        failureThreshold, maxActiveRequests);
+                bConnector.setNativeData(Constants.CIRCUIT_BREAKER, circuitBreaker);
+            }
+            return circuitBreaker;
+        }
+    }
+
+    private CircuitBreaker getSharedCircuitBreaker(String serviceUri, BStruct circuitBreakerConfig,
+                                                   double failureThreshold, long maxActiveRequests) {
+        long resetTimeout = 0;
+        long rollingWindow = 0;
+        long requestVolumeThreshold = 0;
+        if (circuitBreakerConfig != null) {
+            resetTimeout = circuitBreakerConfig.getIntField(Constants.CB_RESET_TIMEOUT_INDEX);
+            rollingWindow = circuitBreakerConfig.getIntField(Constants.CB_ROLLING_WINDOW_INDEX);
+            requestVolumeThreshold = circuitBreakerConfig.getIntField(Constants.CB_REQUEST_VOLUME_THRESHOLD_INDEX);
+        }
+        String key = serviceUri + ":" + failureThreshold + ":" + resetTimeout + ":" + rollingWindow + ":"
+                + requestVolumeThreshold + ":" + maxActiveRequests;
+        synchronized (circuitBreakers) {
+            CircuitBreaker circuitBreaker = circuitBreakers.get(key);
+            if (circuitBreaker == null) {
+                circuitBreaker = new CircuitBreaker(serviceUri, failureThreshold, resetTimeout, rollingWindow,
+                        requestVolumeThreshold, maxActiveRequests);
+                circuitBreakers.put(key, circuitBreaker);
+            }
+            return circuitBreaker;
+        }
+    }
+
+    /**
+     * Creates an access ordered map which evicts its least recently used entry once it holds more than
+     * {@link #MAX_SHARED_CLIENT_ENTRIES} entries. The given callback, if any, is called with each evicted value.
+     */
+    private static <V> Map<String, V> createBoundedCache(Consumer<V> onEviction) {
+        return new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                if (size() <= MAX_SHARED_CLIENT_ENTRIES) {
+                    return false;
+                }
+                if (onEviction != null) {
+                    onEviction.accept(eldest.getValue());
+                }
+                return true;
+            }
+        };
+    }
+
+    private HttpClientConnector createHttpClientConnector(String scheme, BStruct options,
+                                                          boolean httpTraceLogEnabled) {
         Map<String, Object> properties = HTTPConnectorUtil.getTransportProperties(trpConfig);
         SenderConfiguration senderConfiguration =
                 HTTPConnectorUtil.getSenderConfiguration(trpConfig, scheme);
 
-        if (isHTTPTraceLoggerEnabled()) {
+        if (httpTraceLogEnabled) {
             senderConfiguration.setHttpTraceLogEnabled(true);
         }
 
-        BStruct options = (BStruct) bConnector.getRefField(Constants.OPTIONS_STRUCT_INDEX);
         if (options != null) {
             populateSenderConfigurationOptions(senderConfiguration, options);
         }
         return httpConnectorFactory.createHttpClientConnector(properties, senderConfiguration);
     }
 
+    /**
+     * Client connectors resolved for a single connector instance, by scheme.
+     */
+    private static class ClientConnectors {
+        private final String sharedKey;
+        private final Map<String, SharedClientConnector> connectors = new HashMap<>(4);
+
+        ClientConnectors(String sharedKey) {
+            this.sharedKey = sharedKey;
+        }
+    }
+
+    /**
+     * A client connector of the shared pool, which is closed once it is evicted from the pool.
+     */
+    private static class SharedClientConnector {
+        private final HttpClientConnector connector;
+        private volatile boolean evicted;
+
+        SharedClientConnector(HttpClientConnector connector) {
+            this.connector = connector;
+        }
+    }
+
     private static class HttpServerConnectorContext {
         private org.wso2.transport.http.netty.contract.ServerConnector serverConnector;
         private ListenerConfiguration listenerConfiguration;
@@ -24,6 +24,7 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.connector.api.AnnAttrValue;
 import org.ballerinalang.connector.api.Annotation;
@@ -57,9 +58,6 @@ import org.wso2.transport.http.netty.message.HTTPCarbonMessage;
 import org.wso2.transport.http.netty.message.HTTPConnectorUtil;
 import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
@@ -123,7 +121,9 @@ public class HttpUtil {
             if (httpCarbonMessage.isAlreadyRead()) {
                 result = new BBlob((byte[]) httpCarbonMessage.getMessageDataSource().getDataObject());
             } else {
-                result = new BBlob(toByteArray(new HttpMessageDataStreamer(httpCarbonMessage).getInputStream()));
+                result = new BBlob(MessageUtils.getBytesFromInputStream(
+                        new HttpMessageDataStreamer(httpCarbonMessage).getInputStream(),
+                        getContentLength(httpCarbonMessage)));
             }
             if (log.isDebugEnabled()) {
                 log.debug("Payload in String:" + result.stringValue());
@@ -214,7 +214,7 @@ public class HttpUtil {
                     return abstractNativeFunction.getBValues(new BString(""));
                 }
                 String payload = MessageUtils.getStringFromInputStream(new HttpMessageDataStreamer(httpCarbonMessage)
-                        .getInputStream());
+                        .getInputStream(), getContentLength(httpCarbonMessage));
                 result = new BString(payload);
                 httpCarbonMessage.setMessageDataSource(new StringDataSource(payload));
                 httpCarbonMessage.setAlreadyRead(true);
@@ -273,16 +273,42 @@ public class HttpUtil {
         return clonedHttpCarbonMessage;
     }
 
-    private static byte[] toByteArray(InputStream input) throws IOException {
-        byte[] buffer = new byte[4096];
-        int n1;
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
-        for (; -1 != (n1 = input.read(buffer)); ) {
-            output.write(buffer, 0, n1);
+    /**
+     * Creates a copy of an outbound message which can be sent independently of the original. Writing a message to
+     * the backend consumes its payload, so a message which may have to be sent again, e.g. on retry, is copied
+     * before the first attempt and every attempt sends a fresh copy.
+     *
+     * @param httpCarbonMessage message which has not been sent yet
+     * @return copy of the message with its own payload
+     */
+    public static HTTPCarbonMessage cloneOutboundMessage(HTTPCarbonMessage httpCarbonMessage) {
+        HTTPCarbonMessage clonedHttpCarbonMessage = createHttpCarbonMessage(httpCarbonMessage);
+        MessageDataSource messageDataSource = clonedHttpCarbonMessage.getMessageDataSource();
+        if (messageDataSource instanceof BallerinaMessageDataSource
+                && messageDataSource != httpCarbonMessage.getMessageDataSource()) {
+            // The cloned payload has to be serialized into the cloned message, not into the original one.
+            ((BallerinaMessageDataSource) messageDataSource).setOutputStream(
+                    new HttpMessageDataStreamer(clonedHttpCarbonMessage).getOutputStream());
+        }
+        return clonedHttpCarbonMessage;
+    }
+
+    /**
+     * Returns the declared payload length of the message, used to size the buffer the payload is read into.
+     *
+     * @param httpCarbonMessage message whose payload is read
+     * @return the Content-Length header value, or -1 if it is absent or invalid
+     */
+    private static int getContentLength(HTTPCarbonMessage httpCarbonMessage) {
+        String lengthStr = httpCarbonMessage.getHeader(Constants.HTTP_CONTENT_LENGTH);
+        if (lengthStr == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(lengthStr.trim());
+        } catch (NumberFormatException e) {
+            return -1;
         }
-        byte[] bytes = output.toByteArray();
-        output.close();
-        return bytes;
     }
 
     public static BValue[] removeAllHeaders(Context context,
@@ -764,4 +790,58 @@ public class HttpUtil {
             throw new BallerinaException("operation not allowed");
         }
     }
+
+    /**
+     * Builds the key under which a client connector for the given options can be shared. The key covers only the
+     * settings which go into the sender configuration and never contains a password. Options which carry a key
+     * store, trust store or proxy password are not shared, in which case null is returned.
+     *
+     * @param options connector options, may be null
+     * @return the sharing key, or null if a client connector for these options must not be shared
+     */
+    public static String getClientConnectorKey(BStruct options) {
+        if (options == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder();
+        addKeyField(key, "timeout", options.getIntField(Constants.ENDPOINT_TIMEOUT_STRUCT_INDEX));
+        addKeyField(key, "chunking", options.getBooleanField(Constants.ENABLE_CHUNKING_INDEX));
+        BStruct followRedirects = (BStruct) options.getRefField(Constants.FOLLOW_REDIRECT_STRUCT_INDEX);
+        if (followRedirects != null) {
+            addKeyField(key, "followRedirects", followRedirects.getBooleanField(Constants.FOLLOW_REDIRECT_INDEX));
+            addKeyField(key, "maxRedirects", followRedirects.getIntField(Constants.MAX_REDIRECT_COUNT));
+        }
+        BStruct ssl = (BStruct) options.getRefField(Constants.SSL_STRUCT_INDEX);
+        if (ssl != null) {
+            if (StringUtils.isNotBlank(ssl.getStringField(Constants.TRUST_STORE_PASSWORD_INDEX))
+                    || StringUtils.isNotBlank(ssl.getStringField(Constants.KEY_STORE_PASSWORD_INDEX))) {
+                return null;
+            }
+            addKeyField(key, "trustStore", ssl.getStringField(Constants.TRUST_STORE_FILE_INDEX));
+            addKeyField(key, "keyStore", ssl.getStringField(Constants.KEY_STORE_FILE_INDEX));
+            addKeyField(key, "sslEnabledProtocols", ssl.getStringField(Constants.SSL_ENABLED_PROTOCOLS_INDEX));
+            addKeyField(key, "ciphers", ssl.getStringField(Constants.CIPHERS_INDEX));
+            addKeyField(key, "sslProtocol", ssl.getStringField(Constants.SSL_PROTOCOL_INDEX));
+        }
+        BStruct proxy = (BStruct) options.getRefField(Constants.PROXY_STRUCT_INDEX);
+        if (proxy != null) {
+            if (!proxy.getStringField(Constants.PROXY_PASSWORD_INDEX).isEmpty()) {
+                return null;
+            }
+            addKeyField(key, "proxyHost", proxy.getStringField(Constants.PROXY_HOST_INDEX));
+            addKeyField(key, "proxyPort", proxy.getIntField(Constants.PROXY_PORT_INDEX));
+            addKeyField(key, "proxyUser", proxy.getStringField(Constants.PROXY_USER_NAME_INDEX));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Appends a field to a client connector key as its name, the length of its value and the value. The name tells
+     * which optional sections are present and the length keeps any character in a value from being mistaken for a
+     * separator, hence different option sets never produce the same key.
+     */
+    private static void addKeyField(StringBuilder key, String name, Object value) {
+        String valueString = String.valueOf(value);
+        key.append(name).append('=').append(valueString.length()).append(':').append(valueString).append(';');
+    }
 }
@@ -18,8 +18,14 @@
 
 package org.ballerinalang.net.http;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Retry configurations.
+ * <p>
+ * The wait before the n<sup>th</sup> retry is {@code interval * backOffFactor^(n-1)}, capped at
+ * {@code maxWaitInterval} when it is set. With jitter enabled a random wait between half and the full computed
+ * value is used, so that clients failing together do not retry in lock-step.
  *
  * @since 0.95.0
  */
@@ -27,7 +33,11 @@ public class RetryConfig {
     private boolean enabled = false;
     private long retryCount = -1;
     private long interval = -1;
-    private long currentCount;
+    private double backOffFactor = 1.0;
+    private long maxWaitInterval = -1;
+    private boolean jitter = false;
+    private long[] statusCodes = new long[0];
+    private volatile long currentCount;
 
     public RetryConfig() {
 
@@ -40,6 +50,15 @@ public class RetryConfig {
         this.currentCount = 0;
     }
 
+    public RetryConfig(long retryCount, long interval, double backOffFactor, long maxWaitInterval, boolean jitter,
+                       long[] statusCodes) {
+        this(retryCount, interval);
+        this.backOffFactor = backOffFactor < 1.0 ? 1.0 : backOffFactor;
+        this.maxWaitInterval = maxWaitInterval;
+        this.jitter = jitter;
+        this.statusCodes = statusCodes;
+    }
+
     public boolean shouldRetry() {
         if (!enabled) {
             return false;
@@ -50,16 +69,44 @@ public class RetryConfig {
         return true;
     }
 
-    public void incrementCountAndWait() {
+    /**
+     * Checks whether a response with the given status code should be retried.
+     *
+     * @param statusCode HTTP status code of the response
+     * @return true if the status code is configured for retry and retries are not exhausted
+     */
+    public boolean shouldRetry(int statusCode) {
+        if (!shouldRetry()) {
+            return false;
+        }
+        for (long retryStatusCode : statusCodes) {
+            if (retryStatusCode == statusCode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts a retry attempt and returns the time to wait before it is made.
+     *
+     * @return wait time in milliseconds
+     */
+    public long incrementCountAndGetInterval() {
         currentCount++;
         if (interval <= 0) {
-            return;
+            return 0;
+        }
+        double wait = interval * Math.pow(backOffFactor, currentCount - 1);
+        if (maxWaitInterval > 0 && wait > maxWaitInterval) {
+            wait = maxWaitInterval;
         }
-        try {
-            Thread.sleep(interval);
-        } catch (InterruptedException e) {
-            //We ignore any interruptions.
+        long waitInterval = (long) Math.min(wait, Long.MAX_VALUE);
+        if (jitter && waitInterval > 1) {
+            long half = waitInterval / 2;
+            waitInterval = half + ThreadLocalRandom.current().nextLong(waitInterval - half + 1);
         }
+        return waitInterval;
     }
 
     public long getRetryCount() {
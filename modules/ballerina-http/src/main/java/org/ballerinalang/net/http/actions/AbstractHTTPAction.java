@@ -18,17 +18,21 @@
 
 package org.ballerinalang.net.http.actions;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.connector.api.AbstractNativeAction;
 import org.ballerinalang.connector.api.BallerinaConnectorException;
 import org.ballerinalang.model.types.BStructType;
 import org.ballerinalang.model.values.BConnector;
+import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.nativeimpl.actions.ClientConnectorFuture;
+import org.ballerinalang.net.http.CircuitBreaker;
 import org.ballerinalang.net.http.Constants;
 import org.ballerinalang.net.http.HttpConnectionManager;
 import org.ballerinalang.net.http.HttpUtil;
 import org.ballerinalang.net.http.RetryConfig;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.util.codegen.PackageInfo;
 import org.ballerinalang.util.codegen.StructInfo;
 import org.ballerinalang.util.exceptions.BallerinaException;
@@ -43,6 +47,9 @@ import org.wso2.transport.http.netty.message.HTTPCarbonMessage;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.runtime.Constants.BALLERINA_VERSION;
 
@@ -55,6 +62,13 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
 
     private static final String BALLERINA_USER_AGENT;
 
+    private static final ScheduledExecutorService RETRY_TIMER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "http-client-retry-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     /* Application level timeout */
     private static final long SENDER_TIMEOUT = 180000; // TODO: Make this configurable with endpoint timeout impl
 
@@ -132,15 +146,32 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
         ClientConnectorFuture ballerinaFuture = new ClientConnectorFuture();
 
         RetryConfig retryConfig = getRetryConfiguration(context);
-        HTTPClientConnectorListener httpClientConnectorLister =
-                new HTTPClientConnectorListener(context, ballerinaFuture, retryConfig, httpRequestMsg);
-
+        BConnector bConnector = (BConnector) getRefArgument(context, 0);
+        CircuitBreaker circuitBreaker = HttpConnectionManager.getInstance().getCircuitBreaker(bConnector);
+        CircuitBreaker.Permit permit = circuitBreaker == null ? null : circuitBreaker.tryAcquire();
         Object sourceHandler = httpRequestMsg.getProperty(Constants.SRC_HANDLER);
         if (sourceHandler == null) {
             httpRequestMsg.setProperty(Constants.SRC_HANDLER,
                     context.getProperty(Constants.SRC_HANDLER));
         }
-        executeNonBlocking(context, httpRequestMsg, httpClientConnectorLister);
+        HTTPClientConnectorListener httpClientConnectorLister = new HTTPClientConnectorListener(context,
+                ballerinaFuture, retryConfig, httpRequestMsg, circuitBreaker, permit);
+
+        if (circuitBreaker != null && permit == null) {
+            // Fail fast without touching the backend, the circuit is open or too many requests are in flight.
+            String message = circuitBreaker.getState() == CircuitBreaker.State.CLOSED ?
+                    "too many active requests to " + circuitBreaker.getEndpoint() :
+                    "circuit breaker is open for " + circuitBreaker.getEndpoint();
+            httpClientConnectorLister.notifyError(message, HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+            return ballerinaFuture;
+        }
+
+        try {
+            executeNonBlocking(context, httpRequestMsg, httpClientConnectorLister);
+        } catch (BallerinaException e) {
+            httpClientConnectorLister.releaseCircuitBreaker(true);
+            throw e;
+        }
         return ballerinaFuture;
     }
 
@@ -173,7 +204,15 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
         }
         long retryCount = retryConfig.getIntField(Constants.RETRY_COUNT_INDEX);
         long interval = retryConfig.getIntField(Constants.RETRY_INTERVAL_INDEX);
-        return new RetryConfig(retryCount, interval);
+        long maxWaitInterval = retryConfig.getIntField(Constants.RETRY_MAX_WAIT_INTERVAL_INDEX);
+        double backOffFactor = retryConfig.getFloatField(Constants.RETRY_BACKOFF_FACTOR_INDEX);
+        boolean jitter = retryConfig.getBooleanField(Constants.RETRY_JITTER_INDEX) == 1;
+        BIntArray statusCodeArray = (BIntArray) retryConfig.getRefField(Constants.RETRY_STATUS_CODES_INDEX);
+        long[] statusCodes = new long[statusCodeArray == null ? 0 : (int) statusCodeArray.size()];
+        for (int i = 0; i < statusCodes.length; i++) {
+            statusCodes[i] = statusCodeArray.get(i);
+        }
+        return new RetryConfig(retryCount, interval, backOffFactor, maxWaitInterval, jitter, statusCodes);
     }
 
     @Override
@@ -186,20 +225,37 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
         private Context context;
         private ClientConnectorFuture ballerinaFuture;
         private RetryConfig retryConfig;
-        private HTTPCarbonMessage httpRequestMsg;
-        // Reference for post validation.
+        // Unsent copy of the request, each retry sends a fresh copy of it. Null when retries are disabled.
+        private HTTPCarbonMessage retryRequestMsg;
+        private CircuitBreaker circuitBreaker;
+        private CircuitBreaker.Permit permit;
 
         private HTTPClientConnectorListener(Context context, ClientConnectorFuture ballerinaFuture,
-                                            RetryConfig retryConfig, HTTPCarbonMessage httpRequestMsg) {
+                                            RetryConfig retryConfig, HTTPCarbonMessage httpRequestMsg,
+                                            CircuitBreaker circuitBreaker, CircuitBreaker.Permit permit) {
             this.context = context;
             this.ballerinaFuture = ballerinaFuture;
             this.retryConfig = retryConfig;
-            this.httpRequestMsg = httpRequestMsg;
+            if (retryConfig.shouldRetry()) {
+                this.retryRequestMsg = HttpUtil.cloneOutboundMessage(httpRequestMsg);
+            }
+            this.circuitBreaker = circuitBreaker;
+            this.permit = permit;
         }
 
         @Override
         public void onMessage(HTTPCarbonMessage httpCarbonMessage) {
             if (httpCarbonMessage.getMessagingException() == null) {
+                if (retryConfig.shouldRetry(getStatusCode(httpCarbonMessage))) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("action invocation received a retryable response, retrying action, count - "
+                                + retryConfig.getCurrentCount() + " limit - " + retryConfig.getRetryCount());
+                    }
+                    discardResponse(httpCarbonMessage);
+                    scheduleRetry();
+                    return;
+                }
+                releaseCircuitBreaker(getStatusCode(httpCarbonMessage) >= 500);
                 BStruct response = createResponseStruct(this.context);
                 response.addNativeData("transport_message", httpCarbonMessage);
                 ballerinaFuture.notifyReply(response);
@@ -208,6 +264,7 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
                 BallerinaConnectorException ex = new BallerinaConnectorException(httpCarbonMessage
                         .getMessagingException().getMessage(), httpCarbonMessage.getMessagingException());
                 logger.error("non-blocking action invocation validation failed. ", ex);
+                releaseCircuitBreaker(true);
                 ballerinaFuture.notifyFailure(ex);
             }
         }
@@ -222,21 +279,89 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
                 logger.debug("action invocation failed, retrying action, count - "
                         + retryConfig.getCurrentCount() + " limit - " + retryConfig.getRetryCount());
             }
-            retryConfig.incrementCountAndWait();
-            executeNonBlocking(context, httpRequestMsg, this);
+            scheduleRetry();
+        }
+
+        /**
+         * Releases the content of a response which is not handed over to the program. Waiting for the content blocks,
+         * so it is done on a worker thread rather than on the transport thread which delivered the response.
+         */
+        private void discardResponse(HTTPCarbonMessage httpCarbonMessage) {
+            ThreadPoolFactory.getInstance().executeResumption(() -> {
+                try {
+                    httpCarbonMessage.waitAndReleaseAllEntities();
+                } catch (Throwable throwable) {
+                    logger.debug("failed to release a discarded response", throwable);
+                }
+            });
+        }
+
+        /**
+         * Re-sends the request after the retry interval. The wait happens on the retry timer, so neither the
+         * transport thread nor a Ballerina worker thread is blocked in between.
+         */
+        private void scheduleRetry() {
+            long waitInterval = retryConfig.incrementCountAndGetInterval();
+            Runnable retry = () -> {
+                try {
+                    executeNonBlocking(context, HttpUtil.cloneOutboundMessage(retryRequestMsg), this);
+                } catch (Throwable throwable) {
+                    notifyError(throwable);
+                }
+            };
+            if (waitInterval <= 0) {
+                retry.run();
+            } else {
+                RETRY_TIMER.schedule(retry, waitInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private int getStatusCode(HTTPCarbonMessage httpCarbonMessage) {
+            Object statusCode = httpCarbonMessage.getProperty(Constants.HTTP_STATUS_CODE);
+            if (statusCode == null) {
+                return -1;
+            }
+            try {
+                return Integer.parseInt(String.valueOf(statusCode));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
         }
 
         private void notifyError(Throwable throwable) {
-            BStruct httpConnectorError = createErrorStruct(context);
-            httpConnectorError.setStringField(0, throwable.getMessage());
+            releaseCircuitBreaker(true);
+            int statusCode = 0;
             if (throwable instanceof ClientConnectorException) {
-                ClientConnectorException clientConnectorException = (ClientConnectorException) throwable;
-                httpConnectorError.setIntField(0, clientConnectorException.getHttpStatusCode());
+                statusCode = ((ClientConnectorException) throwable).getHttpStatusCode();
             }
+            notifyError(throwable.getMessage(), statusCode);
+        }
 
+        private void notifyError(String message, int statusCode) {
+            BStruct httpConnectorError = createErrorStruct(context);
+            httpConnectorError.setStringField(0, message);
+            httpConnectorError.setIntField(0, statusCode);
             ballerinaFuture.notifyReply(null, httpConnectorError);
         }
 
+        /**
+         * Reports the final outcome of the request to the circuit breaker. Retries share a single permit, and the
+         * circuit breaker ignores a permit once it has been released, so this takes effect only once per action
+         * invocation.
+         *
+         * @param failed whether the request failed
+         */
+        private void releaseCircuitBreaker(boolean failed) {
+            if (permit == null) {
+                return;
+            }
+            if (failed) {
+                circuitBreaker.onFailure(permit);
+            } else {
+                circuitBreaker.onSuccess(permit);
+            }
+        }
+
         private BStruct createResponseStruct(Context context) {
             PackageInfo sessionPackageInfo = context.getProgramFile()
                     .getPackageInfo(Constants.PROTOCOL_PACKAGE_HTTP);
@@ -18,8 +18,8 @@
 
 package org.ballerinalang.net.uri.parser;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +32,7 @@ public abstract class Node<DataElementType extends DataElement> {
 
     protected String token;
     protected DataElementType dataElement;
-    protected List<Node<DataElementType>> childNodesList = new LinkedList<>();
+    protected List<Node<DataElementType>> childNodesList = new ArrayList<>();
 
     protected Node(DataElementType dataElement, String token) {
         this.dataElement = dataElement;
@@ -69,31 +69,18 @@ public abstract class Node<DataElementType extends DataElement> {
             return null;
         }
         String subUriFragment = nextURIFragment(uriFragment, matchLength);
-        String subPath = nextSubPath(subUriFragment);
+        int subPathEnd = subUriFragment.indexOf('/');
+        if (subPathEnd < 0) {
+            subPathEnd = subUriFragment.length();
+        }
 
         DataElementType dataElement;
         for (Node<DataElementType> childNode : childNodesList) {
             if (childNode instanceof Literal) {
-                String regex = childNode.getToken();
-                if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
-                        continue;
-                    }
-                    dataElement = childNode.matchAll(subUriFragment, variables, start + matchLength);
-                    if (dataElement != null) {
-                        return dataElement;
-                    }
-                    continue;
-                }
-                if (!subPath.contains(regex)) {
+                String token = childNode.getToken();
+                if (!token.equals("*") && !isLiteralCandidate(token, subUriFragment, subPathEnd)) {
                     continue;
                 }
-                dataElement = childNode.matchAll(subUriFragment, variables, start + matchLength);
-                if (dataElement != null) {
-                    return dataElement;
-                }
-                continue;
             }
             dataElement = childNode.matchAll(subUriFragment, variables, start + matchLength);
             if (dataElement != null) {
@@ -145,29 +132,22 @@ public abstract class Node<DataElementType extends DataElement> {
         }
     }
 
-    private String nextURIFragment(String uri, int matchLength) {
-        String uriFragment = uri;
-        if (uriFragment.startsWith("/")) {
-            uriFragment = uriFragment.substring(matchLength);
-        } else if (uriFragment.contains("/")) {
-            if (uriFragment.charAt(matchLength) == '/') {
-                uriFragment = uriFragment.substring(matchLength + 1);
-            } else {
-                uriFragment = uriFragment.substring(matchLength);
-            }
-        } else {
-            uriFragment = uriFragment.substring(matchLength);
+    /**
+     * Checks whether a literal token can match the given fragment, without allocating. A literal must start at the
+     * beginning of the fragment and must be contained within the current path segment.
+     */
+    private boolean isLiteralCandidate(String token, String uriFragment, int subPathEnd) {
+        if (uriFragment.isEmpty() || token.charAt(0) != uriFragment.charAt(0)) {
+            return false;
         }
-        return uriFragment;
+        int index = uriFragment.indexOf(token);
+        return index >= 0 && index + token.length() <= subPathEnd;
     }
 
-    private String nextSubPath(String uriFragment) {
-        String subPath;
-        if (uriFragment.contains("/")) {
-            subPath = uriFragment.substring(0, uriFragment.indexOf("/"));
-        } else {
-            subPath = uriFragment;
+    private String nextURIFragment(String uri, int matchLength) {
+        if (uri.charAt(0) != '/' && uri.indexOf('/') >= 0 && uri.charAt(matchLength) == '/') {
+            return uri.substring(matchLength + 1);
         }
-        return subPath;
+        return uri.substring(matchLength);
     }
 }
@@ -165,8 +165,7 @@ public class BallerinaWsServerConnectorListener implements WebSocketConnectorLis
                 if (onOpenResource == null) {
                     return;
                 }
-                ConnectorFuture future = Executor.submit(onOpenResource, null, bValues);
-                future.setConnectorFutureListener(new WebSocketEmptyConnFutureListener());
+                WebSocketDispatcher.submit(onOpenResource, bValues);
             }
 
             @Override
@@ -67,4 +67,7 @@ public class Constants extends org.ballerinalang.net.http.Constants {
     public static final String NATIVE_DATA_UPGRADE_HEADERS = "NATIVE_DATA_UPGRADE_HEADERS";
     public static final String NATIVE_DATA_PARENT_CONNECTION_ID = "NATIVE_DATA_PARENT_CONNECTION_ID";
     public static final String NATIVE_DATA_PING_TIME_VALIDATOR = "NATIVE_DATA_PING_TIME_VALIDATOR";
+
+    // Close status sent when the server cannot handle the frame at the moment (RFC 6455 registry)
+    public static final int STATUS_CODE_TRY_AGAIN_LATER = 1013;
 }
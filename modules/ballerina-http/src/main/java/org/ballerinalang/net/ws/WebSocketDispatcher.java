@@ -24,6 +24,8 @@ import org.ballerinalang.connector.api.Resource;
 import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.services.ErrorHandlerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.contract.websocket.WebSocketBinaryMessage;
 import org.wso2.transport.http.netty.contract.websocket.WebSocketCloseMessage;
 import org.wso2.transport.http.netty.contract.websocket.WebSocketControlMessage;
@@ -31,6 +33,11 @@ import org.wso2.transport.http.netty.contract.websocket.WebSocketControlSignal;
 import org.wso2.transport.http.netty.contract.websocket.WebSocketMessage;
 import org.wso2.transport.http.netty.contract.websocket.WebSocketTextMessage;
 
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+
 /**
  * {@code WebSocketDispatcher} This is the web socket request dispatcher implementation which finds
  * best matching resource for incoming web socket request.
@@ -39,6 +46,8 @@ import org.wso2.transport.http.netty.contract.websocket.WebSocketTextMessage;
  */
 public class WebSocketDispatcher {
 
+    private static final Logger log = LoggerFactory.getLogger(WebSocketDispatcher.class);
+
     /**
      * This will find the best matching service for given web socket request.
      *
@@ -88,8 +97,7 @@ public class WebSocketDispatcher {
             wsTextFrame.setBooleanField(0, 0);
         }
         BValue[] bValues = {wsConnection, wsTextFrame};
-        ConnectorFuture future = Executor.submit(onTextMessageResource, null, bValues);
-        future.setConnectorFutureListener(new WebSocketEmptyConnFutureListener());
+        submit(onTextMessageResource, bValues);
     }
 
     public static void dispatchBinaryMessage(WebSocketService wsService, WebSocketBinaryMessage binaryMessage) {
@@ -107,8 +115,7 @@ public class WebSocketDispatcher {
             wsBinaryFrame.setBooleanField(0, 0);
         }
         BValue[] bValues = {wsConnection, wsBinaryFrame};
-        ConnectorFuture future = Executor.submit(onBinaryMessageResource, null, bValues);
-        future.setConnectorFutureListener(new WebSocketEmptyConnFutureListener());
+        submit(onBinaryMessageResource, bValues);
     }
 
     public static void dispatchControlMessage(WebSocketService wsService, WebSocketControlMessage controlMessage) {
@@ -131,8 +138,7 @@ public class WebSocketDispatcher {
         byte[] data = controlMessage.getByteArray();
         wsPingFrame.setBlobField(0, data);
         BValue[] bValues = {wsConnection, wsPingFrame};
-        ConnectorFuture future = Executor.submit(onPingMessageResource, null, bValues);
-        future.setConnectorFutureListener(new WebSocketEmptyConnFutureListener());
+        submit(onPingMessageResource, bValues);
     }
 
     private static void dispatchPongMessage(WebSocketService wsService, WebSocketControlMessage controlMessage) {
@@ -145,8 +151,7 @@ public class WebSocketDispatcher {
         byte[] data = controlMessage.getByteArray();
         wsPongFrame.setBlobField(0, data);
         BValue[] bValues = {wsConnection, wsPongFrame};
-        ConnectorFuture future = Executor.submit(onPongMessageResource, null, bValues);
-        future.setConnectorFutureListener(new WebSocketEmptyConnFutureListener());
+        submit(onPongMessageResource, bValues);
     }
 
     public static void dispatchCloseMessage(WebSocketService wsService, WebSocketCloseMessage closeMessage) {
@@ -160,8 +165,7 @@ public class WebSocketDispatcher {
         wsCloseFrame.setStringField(0, closeMessage.getCloseReason());
 
         BValue[] bValues = {wsConnection, wsCloseFrame};
-        ConnectorFuture future = Executor.submit(onCloseResource, null, bValues);
-        future.setConnectorFutureListener(new WebSocketEmptyConnFutureListener());
+        submit(onCloseResource, bValues);
     }
 
     public static void dispatchIdleTimeout(WebSocketService wsService, WebSocketControlMessage controlMessage) {
@@ -171,10 +175,45 @@ public class WebSocketDispatcher {
         }
         BStruct wsConnection = getWSConnection(controlMessage);
         BValue[] bValues = {wsConnection};
-        ConnectorFuture future = Executor.submit(onIdleTimeoutResource, null, bValues);
+        submit(onIdleTimeoutResource, bValues);
+    }
+
+    /**
+     * Submits a resource for execution. If the Ballerina worker pool is saturated, the connection is closed with
+     * the "try again later" status instead of silently dropping the frame.
+     *
+     * @param resource resource to execute
+     * @param bValues  resource arguments, the first one being the connection
+     */
+    static void submit(Resource resource, BValue... bValues) {
+        ConnectorFuture future;
+        try {
+            future = Executor.submit(resource, null, bValues);
+        } catch (RejectedExecutionException e) {
+            log.warn("rejecting websocket frame, Ballerina worker pool is saturated");
+            closeConnection((BStruct) bValues[0], Constants.STATUS_CODE_TRY_AGAIN_LATER, "Try again later");
+            return;
+        }
         future.setConnectorFutureListener(new WebSocketEmptyConnFutureListener());
     }
 
+    private static void closeConnection(BStruct wsConnection, int statusCode, String reason) {
+        if (wsConnection == null) {
+            return;
+        }
+        Session session = (Session) wsConnection.getNativeData(Constants.NATIVE_DATA_WEBSOCKET_SESSION);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            session.close(new CloseReason(() -> statusCode, reason));
+        } catch (IOException e) {
+            log.error("could not close the websocket connection: " + e.getMessage());
+        } finally {
+            WebSocketConnectionManager.getInstance().removeConnection(session.getId());
+        }
+    }
+
     private static BStruct getWSConnection(WebSocketMessage webSocketMessage) {
         return WebSocketConnectionManager.getInstance().getConnection(webSocketMessage.getChannelSession().getId());
     }
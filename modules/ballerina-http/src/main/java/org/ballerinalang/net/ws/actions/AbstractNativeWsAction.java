@@ -80,7 +80,7 @@ public abstract class AbstractNativeWsAction extends AbstractNativeAction {
     public Map<String, String> getCustomHeaders(BRefType<BMap<BString, BString>> bCustomHeaders) {
         Map<String, String> customHeaders = new HashMap<>();
         BMap<BString, BString> bHeadersMap = bCustomHeaders.value();
-        bHeadersMap.keySet().forEach(
+        bHeadersMap.keys().forEach(
                 key -> customHeaders.put(key.stringValue(), bHeadersMap.get(key).stringValue())
         );
         return customHeaders;
@@ -18,8 +18,11 @@
 package org.wso2.ballerinalang.compiler.parser;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.tree.CompilationUnitNode;
@@ -86,20 +89,21 @@ public class Parser {
             BDiagnosticSource diagnosticSrc = getDiagnosticSource(sourceEntry);
             String entryName = sourceEntry.getEntryName();
 
-            BLangCompilationUnit compUnit = (BLangCompilationUnit) TreeBuilder.createCompilationUnit();
-            compUnit.setName(sourceEntry.getEntryName());
-            compUnit.pos = new DiagnosticPos(diagnosticSrc, 1, 1, 1, 1);
-
-            ANTLRInputStream ais = new ANTLRInputStream(new ByteArrayInputStream(sourceEntry.getCode()));
-            ais.name = entryName;
-            BallerinaLexer lexer = new BallerinaLexer(ais);
-            lexer.removeErrorListeners();
-            lexer.addErrorListener(new BallerinaParserErrorListener(context, diagnosticSrc));
-            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-            BallerinaParser parser = new BallerinaParser(tokenStream);
-            parser.setErrorHandler(getErrorStrategy(diagnosticSrc));
-            parser.addParseListener(newListener(tokenStream, compUnit, diagnosticSrc));
-            parser.compilationUnit();
+            // First try the faster SLL prediction, which is sufficient for almost all valid sources. If it
+            // fails, the source is parsed again in full LL mode, which also does the error reporting and recovery.
+            // An error strategy registered by tooling has to see every parse, so SLL is not tried in that case.
+            BLangCompilationUnit compUnit = null;
+            if (context.get(DefaultErrorStrategy.class) == null) {
+                compUnit = parseWithSLL(sourceEntry, diagnosticSrc);
+            }
+            if (compUnit == null) {
+                compUnit = createCompilationUnit(entryName, diagnosticSrc);
+                CommonTokenStream tokenStream = createTokenStream(sourceEntry, diagnosticSrc);
+                BallerinaParser parser = new BallerinaParser(tokenStream);
+                parser.setErrorHandler(getErrorStrategy(diagnosticSrc));
+                parser.addParseListener(newListener(tokenStream, compUnit, diagnosticSrc));
+                parser.compilationUnit();
+            }
 
             if (dlog.errorCount > prevErrCount) {
                 throw new BLangParserException("syntax errors in: " + entryName);
@@ -111,6 +115,56 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses the source with SLL prediction, bailing out on the first syntax error. Diagnostics logged while
+     * parsing, by the lexer or the model builder, are only reported if the parse succeeds, since the LL pass
+     * would report them again.
+     *
+     * @return the compilation unit, or null if the source has to be parsed in LL mode
+     */
+    private BLangCompilationUnit parseWithSLL(PackageSourceEntry sourceEntry, BDiagnosticSource diagnosticSrc)
+            throws IOException {
+        BLangCompilationUnit compUnit = createCompilationUnit(sourceEntry.getEntryName(), diagnosticSrc);
+        CommonTokenStream tokenStream = createTokenStream(sourceEntry, diagnosticSrc);
+        BallerinaParser parser = new BallerinaParser(tokenStream);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.addParseListener(newListener(tokenStream, compUnit, diagnosticSrc));
+
+        boolean parsed = false;
+        dlog.startBuffering();
+        try {
+            parser.compilationUnit();
+            parsed = true;
+            return compUnit;
+        } catch (ParseCancellationException e) {
+            return null;
+        } finally {
+            if (parsed) {
+                dlog.flushBuffer();
+            } else {
+                dlog.discardBuffer();
+            }
+        }
+    }
+
+    private CommonTokenStream createTokenStream(PackageSourceEntry sourceEntry, BDiagnosticSource diagnosticSrc)
+            throws IOException {
+        ANTLRInputStream ais = new ANTLRInputStream(new ByteArrayInputStream(sourceEntry.getCode()));
+        ais.name = sourceEntry.getEntryName();
+        BallerinaLexer lexer = new BallerinaLexer(ais);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new BallerinaParserErrorListener(context, diagnosticSrc));
+        return new CommonTokenStream(lexer);
+    }
+
+    private BLangCompilationUnit createCompilationUnit(String entryName, BDiagnosticSource diagnosticSrc) {
+        BLangCompilationUnit compUnit = (BLangCompilationUnit) TreeBuilder.createCompilationUnit();
+        compUnit.setName(entryName);
+        compUnit.pos = new DiagnosticPos(diagnosticSrc, 1, 1, 1, 1);
+        return compUnit;
+    }
+
     private BLangParserListener newListener(CommonTokenStream tokenStream,
                                             CompilationUnitNode compUnit,
                                             BDiagnosticSource diagnosticSrc) {
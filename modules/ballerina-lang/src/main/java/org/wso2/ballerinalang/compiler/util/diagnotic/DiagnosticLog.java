@@ -23,6 +23,8 @@ import org.ballerinalang.util.diagnostic.DiagnosticListener;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -47,6 +49,9 @@ public class DiagnosticLog {
 
     private DiagnosticListener listener;
 
+    // Diagnostics held back until it is known whether they should be reported, null when not buffering
+    private List<BDiagnostic> bufferedDiagnostics;
+
     public static DiagnosticLog getInstance(CompilerContext context) {
         DiagnosticLog dLogger = context.get(DIAGNOSTIC_LOG_KEY);
         if (dLogger == null) {
@@ -69,23 +74,59 @@ public class DiagnosticLog {
         String msg = formatMessage(errMsgKeyPrefix, code, args);
         BDiagnostic diagnostic = new BDiagnostic(Diagnostic.Kind.ERROR,
                 pos.src, pos, code, msg);
-
-        listener.received(diagnostic);
-        errorCount++;
+        report(diagnostic);
     }
 
     public void warning(DiagnosticPos pos, DiagnosticCode code, Object... args) {
         String msg = formatMessage(warningMsgKeyPrefix, code, args);
         BDiagnostic diagnostic = new BDiagnostic(Diagnostic.Kind.WARNING,
                 pos.src, pos, code, msg);
-        listener.received(diagnostic);
+        report(diagnostic);
     }
 
     public void note(DiagnosticPos pos, DiagnosticCode code, Object... args) {
         String msg = formatMessage(noteMsgKeyPrefix, code, args);
         BDiagnostic diagnostic = new BDiagnostic(Diagnostic.Kind.NOTE,
                 pos.src, pos, code, msg);
+        report(diagnostic);
+    }
+
+    /**
+     * Holds back the diagnostics logged from now on, until {@link #flushBuffer()} or {@link #discardBuffer()} is
+     * called. Buffered errors are not counted in {@link #errorCount} until they are flushed.
+     */
+    public void startBuffering() {
+        bufferedDiagnostics = new ArrayList<>();
+    }
+
+    /**
+     * Reports the buffered diagnostics and stops buffering.
+     */
+    public void flushBuffer() {
+        List<BDiagnostic> diagnostics = bufferedDiagnostics;
+        bufferedDiagnostics = null;
+        if (diagnostics != null) {
+            diagnostics.forEach(this::report);
+        }
+    }
+
+    /**
+     * Drops the buffered diagnostics and stops buffering.
+     */
+    public void discardBuffer() {
+        bufferedDiagnostics = null;
+    }
+
+    private void report(BDiagnostic diagnostic) {
+        if (bufferedDiagnostics != null) {
+            bufferedDiagnostics.add(diagnostic);
+            return;
+        }
+
         listener.received(diagnostic);
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+            errorCount++;
+        }
     }
 
     private String formatMessage(String prefix, DiagnosticCode code, Object[] args) {
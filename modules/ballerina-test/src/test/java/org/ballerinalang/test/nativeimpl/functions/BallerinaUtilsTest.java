@@ -22,13 +22,17 @@ import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.HashUtils;
 import org.ballerinalang.util.exceptions.BLangRuntimeException;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 
 /**
  * Test Cases for ballerina.utils native functions.
@@ -76,6 +80,10 @@ public class BallerinaUtilsTest {
         String expectedMD5Hash = "3D5AC29160F2905A5C8153597798A4C1";
         String expectedSHA1Hash = "13DD8D54D0EB702EDC6E8EDCAF616837D3A51499";
         String expectedSHA256Hash = "2651203E18BF0088D3EF1215022D147E2534FD4BAD5689C9E5F12436E9758B15";
+        String expectedSHA384Hash = "C27A281DFFED3D4D176646D7261E9F6268A3D40A237CD274FC2F5970F637F1CBC20A3835D7B7AA7"
+                + "401308737F23A9BF7";
+        String expectedSHA512Hash = "78D99BF3E5277FC893AF6CD6B0487C33ED3ABC4F956FDD1FADA302F135B012A3C71CADAAEB462E5"
+                + "1FF281202BDFA8807719B91F69742C3F71F036C469AC5B918";
 
         BValue[] args = {message, key, new BString("MD5")};
         BValue[] returnValues = BRunUtil.invoke(compileResult, "testHmac", args);
@@ -91,6 +99,39 @@ public class BallerinaUtilsTest {
         returnValues = BRunUtil.invoke(compileResult, "testHmac", args);
         Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
         Assert.assertEquals(returnValues[0].stringValue(), expectedSHA256Hash);
+
+        args = new BValue[]{message, key, new BString("SHA384")};
+        returnValues = BRunUtil.invoke(compileResult, "testHmac", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(returnValues[0].stringValue(), expectedSHA384Hash);
+
+        args = new BValue[]{message, key, new BString("SHA512")};
+        returnValues = BRunUtil.invoke(compileResult, "testHmac", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(returnValues[0].stringValue(), expectedSHA512Hash);
+
+        // Same key again, which reuses the initialized MAC of this thread.
+        args = new BValue[]{message, key, new BString("SHA256")};
+        returnValues = BRunUtil.invoke(compileResult, "testHmac", args);
+        Assert.assertEquals(returnValues[0].stringValue(), expectedSHA256Hash);
+    }
+
+    @Test
+    public void testHmacWithNonAsciiKey() throws Exception {
+        String message = "Ballerina HMAC test";
+        String key = "バレリーナ-ключ";
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String expectedHash = HashUtils.toHexString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+
+        BValue[] args = {new BString(message), new BString(key), new BString("SHA256")};
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHmac", args);
+        Assert.assertEquals(returnValues[0].stringValue(), expectedHash);
+
+        // A different key on the same thread must re-initialize the cached MAC.
+        args = new BValue[]{new BString(message), new BString("バレリーナ-кл"), new BString("SHA256")};
+        returnValues = BRunUtil.invoke(compileResult, "testHmac", args);
+        Assert.assertNotEquals(returnValues[0].stringValue(), expectedHash);
     }
 
     @Test(expectedExceptions = BLangRuntimeException.class)
@@ -138,6 +179,8 @@ public class BallerinaUtilsTest {
         argsList.add(new BValue[]{new BString("Ballerina HMAC BASE64 test"), new BString("SHA1")});
         argsList.add(new BValue[]{new BString("Ballerina HMAC BASE64 test"), new BString("SHA256")});
         argsList.add(new BValue[]{new BString("Ballerina HMAC BASE64 test"), new BString("MD5")});
+        argsList.add(new BValue[]{new BString("Ballerina HMAC BASE64 test"), new BString("SHA384")});
+        argsList.add(new BValue[]{new BString("Ballerina HMAC BASE64 test"), new BString("SHA512")});
 
         for (BValue[] args : argsList) {
             BValue[] returnVals = BRunUtil.invoke(compileResult, "testMessageDigest", args);
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.net.http;
+
+import org.ballerinalang.net.http.CircuitBreaker;
+import org.ballerinalang.net.http.CircuitBreaker.Permit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the state machine of the HTTP client circuit breaker.
+ */
+public class CircuitBreakerTest {
+
+    private static final long RESET_TIMEOUT = 100;
+
+    private CircuitBreaker createCircuitBreaker(long maxActiveRequests) {
+        return new CircuitBreaker("http://localhost:9090", 0.5, RESET_TIMEOUT, 60000, 4, maxActiveRequests);
+    }
+
+    private void openCircuit(CircuitBreaker circuitBreaker) {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        }
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    private void waitForResetTimeout() throws InterruptedException {
+        Thread.sleep(RESET_TIMEOUT + 50);
+    }
+
+    @Test
+    public void testOpensOnFailureThreshold() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+        // Failure rate is above the threshold, but the request volume threshold is not reached yet.
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertNull(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getRejectedRequests(), 1);
+    }
+
+    @Test
+    public void testStaysClosedBelowFailureThreshold() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        for (int i = 0; i < 6; i++) {
+            circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+        }
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testHalfOpensAfterResetTimeout() throws InterruptedException {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        openCircuit(circuitBreaker);
+
+        waitForResetTimeout();
+        Permit probe = circuitBreaker.tryAcquire();
+        Assert.assertNotNull(probe);
+        Assert.assertTrue(probe.isProbe());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        // Only a single probe is let through.
+        Assert.assertNull(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    public void testProbeSuccessClosesCircuit() throws InterruptedException {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        openCircuit(circuitBreaker);
+        waitForResetTimeout();
+
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+
+        // The failures which opened the circuit are forgotten.
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testProbeFailureReopensCircuit() throws InterruptedException {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        openCircuit(circuitBreaker);
+        waitForResetTimeout();
+
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertNull(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    public void testMaxActiveRequests() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(2);
+        Permit first = circuitBreaker.tryAcquire();
+        Permit second = circuitBreaker.tryAcquire();
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertNull(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getActiveRequests(), 2);
+
+        circuitBreaker.onSuccess(first);
+        // Releasing the same permit twice must not free another slot.
+        circuitBreaker.onSuccess(first);
+        Assert.assertEquals(circuitBreaker.getActiveRequests(), 1);
+        Assert.assertNotNull(circuitBreaker.tryAcquire());
+        Assert.assertNull(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testStaleCompletionDoesNotDecideProbe() throws InterruptedException {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        // Admitted while the circuit is still closed, completes only after it half-opened.
+        Permit stale = circuitBreaker.tryAcquire();
+        openCircuit(circuitBreaker);
+        waitForResetTimeout();
+
+        Permit probe = circuitBreaker.tryAcquire();
+        Assert.assertTrue(probe.isProbe());
+
+        circuitBreaker.onSuccess(stale);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.assertNull(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure(probe);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertEquals(circuitBreaker.getActiveRequests(), 0);
+    }
+
+    @Test
+    public void testStaleFailureAfterCloseIsNotCounted() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("http://localhost:9090", 0.5, RESET_TIMEOUT, 60000, 1, 0);
+        Permit stale = circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        waitForResetTimeout();
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+
+        // A failure of a request admitted before the circuit opened must not re-open it.
+        circuitBreaker.onFailure(stale);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testDefaultResetTimeout() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("http://localhost:9090", 0.5, 0, 0, 1, 0);
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        // With no configured reset timeout the circuit must not half-open on the next call.
+        Assert.assertNull(circuitBreaker.tryAcquire());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.net.http;
+
+import org.ballerinalang.model.types.BStructType;
+import org.ballerinalang.model.values.BStruct;
+import org.ballerinalang.net.http.Constants;
+import org.ballerinalang.net.http.HttpUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the key under which HTTP client connectors are shared between connector instances.
+ */
+public class ClientConnectorKeyTest {
+
+    private static BStruct createStruct(String name, int[] fieldCount) {
+        BStructType structType = new BStructType(name, null);
+        structType.setFieldTypeCount(fieldCount);
+        return new BStruct(structType);
+    }
+
+    private static BStruct createOptions() {
+        BStruct options = createStruct("Options", new int[]{3, 0, 0, 1, 0, 5});
+        options.setIntField(Constants.ENDPOINT_TIMEOUT_STRUCT_INDEX, 60000);
+        options.setBooleanField(Constants.ENABLE_CHUNKING_INDEX, 1);
+        return options;
+    }
+
+    private static BStruct createSsl(String trustStorePassword, String keyStorePassword) {
+        BStruct ssl = createStruct("SSL", new int[]{0, 0, 7, 0, 0, 0});
+        ssl.setStringField(Constants.TRUST_STORE_FILE_INDEX, "/path/to/truststore.p12");
+        ssl.setStringField(Constants.TRUST_STORE_PASSWORD_INDEX, trustStorePassword);
+        ssl.setStringField(Constants.KEY_STORE_FILE_INDEX, "/path/to/keystore.p12");
+        ssl.setStringField(Constants.KEY_STORE_PASSWORD_INDEX, keyStorePassword);
+        ssl.setStringField(Constants.SSL_PROTOCOL_INDEX, "TLS");
+        return ssl;
+    }
+
+    private static BStruct createProxy(String password) {
+        BStruct proxy = createStruct("Proxy", new int[]{1, 0, 3, 0, 0, 0});
+        proxy.setStringField(Constants.PROXY_HOST_INDEX, "localhost");
+        proxy.setIntField(Constants.PROXY_PORT_INDEX, 3128);
+        proxy.setStringField(Constants.PROXY_USER_NAME_INDEX, "user");
+        proxy.setStringField(Constants.PROXY_PASSWORD_INDEX, password);
+        return proxy;
+    }
+
+    @Test
+    public void testEqualOptionsShareKey() {
+        BStruct first = createOptions();
+        first.setRefField(Constants.SSL_STRUCT_INDEX, createSsl("", ""));
+        BStruct second = createOptions();
+        second.setRefField(Constants.SSL_STRUCT_INDEX, createSsl("", ""));
+
+        Assert.assertNotNull(HttpUtil.getClientConnectorKey(first));
+        Assert.assertEquals(HttpUtil.getClientConnectorKey(first), HttpUtil.getClientConnectorKey(second));
+        Assert.assertEquals(HttpUtil.getClientConnectorKey(null), "");
+    }
+
+    @Test
+    public void testDifferentSenderSettingsDoNotShareKey() {
+        BStruct first = createOptions();
+        BStruct second = createOptions();
+        second.setIntField(Constants.ENDPOINT_TIMEOUT_STRUCT_INDEX, 1000);
+        Assert.assertNotEquals(HttpUtil.getClientConnectorKey(first), HttpUtil.getClientConnectorKey(second));
+
+        second = createOptions();
+        second.setRefField(Constants.PROXY_STRUCT_INDEX, createProxy(""));
+        Assert.assertNotEquals(HttpUtil.getClientConnectorKey(first), HttpUtil.getClientConnectorKey(second));
+    }
+
+    @Test
+    public void testRequestLimitsDoNotSplitKey() {
+        BStruct first = createOptions();
+        BStruct second = createOptions();
+        second.setIntField(Constants.MAX_ACTIVE_REQUESTS_INDEX, 10);
+        Assert.assertEquals(HttpUtil.getClientConnectorKey(first), HttpUtil.getClientConnectorKey(second));
+    }
+
+    @Test
+    public void testOptionsWithPasswordsAreNotShared() {
+        BStruct options = createOptions();
+        options.setRefField(Constants.SSL_STRUCT_INDEX, createSsl("trustSecret", ""));
+        Assert.assertNull(HttpUtil.getClientConnectorKey(options));
+
+        options.setRefField(Constants.SSL_STRUCT_INDEX, createSsl("", "keySecret"));
+        Assert.assertNull(HttpUtil.getClientConnectorKey(options));
+
+        options = createOptions();
+        options.setRefField(Constants.PROXY_STRUCT_INDEX, createProxy("proxySecret"));
+        Assert.assertNull(HttpUtil.getClientConnectorKey(options));
+    }
+
+    @Test
+    public void testSeparatorsInValuesDoNotShareKey() {
+        BStruct first = createOptions();
+        BStruct ssl = createSsl("", "");
+        ssl.setStringField(Constants.TRUST_STORE_FILE_INDEX, "C:\\keys\\trust:store.p12");
+        ssl.setStringField(Constants.KEY_STORE_FILE_INDEX, "keystore.p12");
+        first.setRefField(Constants.SSL_STRUCT_INDEX, ssl);
+
+        BStruct second = createOptions();
+        ssl = createSsl("", "");
+        ssl.setStringField(Constants.TRUST_STORE_FILE_INDEX, "C:\\keys\\trust");
+        ssl.setStringField(Constants.KEY_STORE_FILE_INDEX, "store.p12:keystore.p12");
+        second.setRefField(Constants.SSL_STRUCT_INDEX, ssl);
+
+        Assert.assertNotEquals(HttpUtil.getClientConnectorKey(first), HttpUtil.getClientConnectorKey(second));
+    }
+
+    @Test
+    public void testDifferentSectionsDoNotShareKey() {
+        BStruct first = createOptions();
+        BStruct followRedirects = createStruct("FollowRedirects", new int[]{1, 0, 0, 1, 0, 0});
+        followRedirects.setBooleanField(Constants.FOLLOW_REDIRECT_INDEX, 1);
+        followRedirects.setIntField(Constants.MAX_REDIRECT_COUNT, 5);
+        first.setRefField(Constants.FOLLOW_REDIRECT_STRUCT_INDEX, followRedirects);
+
+        BStruct second = createOptions();
+        second.setRefField(Constants.SSL_STRUCT_INDEX, createSsl("", ""));
+        BStruct third = createOptions();
+        third.setRefField(Constants.PROXY_STRUCT_INDEX, createProxy(""));
+
+        String firstKey = HttpUtil.getClientConnectorKey(first);
+        String secondKey = HttpUtil.getClientConnectorKey(second);
+        String thirdKey = HttpUtil.getClientConnectorKey(third);
+        Assert.assertNotEquals(firstKey, secondKey);
+        Assert.assertNotEquals(firstKey, thirdKey);
+        Assert.assertNotEquals(secondKey, thirdKey);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.net.http;
+
+import org.ballerinalang.net.http.RetryConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the retry intervals and retry decisions of the HTTP client.
+ */
+public class RetryConfigTest {
+
+    private static final long[] NO_STATUS_CODES = new long[0];
+
+    @Test
+    public void testExponentialBackOff() {
+        RetryConfig retryConfig = new RetryConfig(5, 100, 2.0, -1, false, NO_STATUS_CODES);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 100);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 200);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 400);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 800);
+        Assert.assertEquals(retryConfig.getCurrentCount(), 4);
+    }
+
+    @Test
+    public void testConstantIntervalByDefault() {
+        RetryConfig retryConfig = new RetryConfig(3, 100);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 100);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 100);
+
+        // A back-off factor below one must not shrink the interval.
+        retryConfig = new RetryConfig(3, 100, 0.5, -1, false, NO_STATUS_CODES);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 100);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 100);
+    }
+
+    @Test
+    public void testMaxWaitIntervalCap() {
+        RetryConfig retryConfig = new RetryConfig(10, 100, 2.0, 250, false, NO_STATUS_CODES);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 100);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 200);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 250);
+        Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 250);
+
+        // Even a huge exponent stays at the cap.
+        for (int i = 0; i < 2000; i++) {
+            Assert.assertEquals(retryConfig.incrementCountAndGetInterval(), 250);
+        }
+    }
+
+    @Test
+    public void testJitterBounds() {
+        RetryConfig retryConfig = new RetryConfig(Long.MAX_VALUE, 1000, 1.0, -1, true, NO_STATUS_CODES);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            long interval = retryConfig.incrementCountAndGetInterval();
+            Assert.assertTrue(interval >= 500 && interval <= 1000, "interval out of bounds: " + interval);
+            min = Math.min(min, interval);
+            max = Math.max(max, interval);
+        }
+        Assert.assertTrue(min < max, "jitter did not vary the interval");
+    }
+
+    @Test
+    public void testJitterRespectsCap() {
+        RetryConfig retryConfig = new RetryConfig(Long.MAX_VALUE, 1000, 3.0, 2000, true, NO_STATUS_CODES);
+        for (int i = 0; i < 100; i++) {
+            long interval = retryConfig.incrementCountAndGetInterval();
+            Assert.assertTrue(interval >= 500 && interval <= 2000, "interval out of bounds: " + interval);
+        }
+    }
+
+    @Test
+    public void testStatusCodeMatching() {
+        RetryConfig retryConfig = new RetryConfig(2, 100, 1.0, -1, false, new long[]{502, 503});
+        Assert.assertTrue(retryConfig.shouldRetry(503));
+        Assert.assertTrue(retryConfig.shouldRetry(502));
+        Assert.assertFalse(retryConfig.shouldRetry(500));
+        Assert.assertFalse(retryConfig.shouldRetry(200));
+
+        retryConfig.incrementCountAndGetInterval();
+        retryConfig.incrementCountAndGetInterval();
+        // Retries are exhausted.
+        Assert.assertFalse(retryConfig.shouldRetry(503));
+        Assert.assertFalse(retryConfig.shouldRetry());
+    }
+
+    @Test
+    public void testRetryDisabled() {
+        RetryConfig retryConfig = new RetryConfig();
+        Assert.assertFalse(retryConfig.shouldRetry());
+        Assert.assertFalse(retryConfig.shouldRetry(503));
+        Assert.assertFalse(new RetryConfig(0, 100).shouldRetry());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.parser;
+
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.util.diagnostic.Diagnostic;
+import org.ballerinalang.util.diagnostic.DiagnosticListener;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.SOURCE_ROOT;
+
+/**
+ * Tests for an error strategy registered in the compiler context.
+ */
+public class CustomErrorStrategyTest {
+
+    @Test(description = "Test that a registered error strategy is used when parsing a valid source")
+    public void testErrorStrategySeesSuccessfulParse() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(SOURCE_ROOT, Paths.get("src/test/resources/test-src/workers").toAbsolutePath().toString());
+        options.put(COMPILER_PHASE, CompilerPhase.DEFINE.toString());
+        options.put(PRESERVE_WHITESPACE, "false");
+
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        context.put(DiagnosticListener.class, (DiagnosticListener) diagnostics::add);
+        MatchCountingErrorStrategy errorStrategy = new MatchCountingErrorStrategy();
+        context.put(DefaultErrorStrategy.class, errorStrategy);
+
+        Compiler.getInstance(context).compile("worker-in-function-test.bal");
+        Assert.assertEquals(diagnostics.size(), 0);
+        Assert.assertTrue(errorStrategy.matchCount > 0, "Registered error strategy was not used");
+    }
+
+    /**
+     * Error strategy which counts the matched tokens.
+     */
+    private static class MatchCountingErrorStrategy extends DefaultErrorStrategy {
+
+        private int matchCount;
+
+        @Override
+        public void reportMatch(Parser recognizer) {
+            matchCount++;
+            super.reportMatch(recognizer);
+        }
+    }
+}
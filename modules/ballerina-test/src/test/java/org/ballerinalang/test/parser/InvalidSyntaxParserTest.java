@@ -21,6 +21,7 @@ package org.ballerinalang.test.parser;
 import org.ballerinalang.launcher.util.BAssertUtil;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 /**
@@ -108,6 +109,20 @@ public class InvalidSyntaxParserTest {
         BAssertUtil.validateError(result, 0, "invalid token 'reply'", 9, 5);
     }
 
+    /**
+     * Test that diagnostics of the model builder are reported once when the source is parsed again after a
+     * syntax error.
+     */
+
+    @Test
+    public void testRedeclaredImportWithSyntaxError() {
+        CompileResult result =
+                BCompileUtil.compile("test-src/parser/redeclared-import-with-syntax-error-negative.bal");
+        Assert.assertEquals(result.getWarnCount(), 1);
+        Assert.assertTrue(result.getErrorCount() > 0);
+        BAssertUtil.validateWarning(result, 0, "redeclared import package 'ballerina.math'", 2, 1);
+    }
+
     // token recognition.
 
     public void testTokenRecognition() {
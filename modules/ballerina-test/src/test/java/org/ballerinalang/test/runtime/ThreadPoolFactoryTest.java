@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.runtime;
+
+import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for the sizing, queue bounds and rejection behaviour of the Ballerina thread pools.
+ */
+public class ThreadPoolFactoryTest {
+
+    @Test
+    public void testFixedThreadPoolSize() {
+        ExecutorService executor = ThreadPoolFactory.createFixedThreadPool(3, 5, new BLangThreadFactory("test"));
+        try {
+            Assert.assertEquals(((ThreadPoolExecutor) executor).getCorePoolSize(), 3);
+            Assert.assertEquals(((ThreadPoolExecutor) executor).getMaximumPoolSize(), 3);
+            Assert.assertEquals(((ThreadPoolExecutor) executor).getQueue().remainingCapacity(), 5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = RejectedExecutionException.class)
+    public void testRejectsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = ThreadPoolFactory.createFixedThreadPool(1, 1, new BLangThreadFactory("test"));
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+            // One task is running and one is queued, the pool is saturated.
+            executor.execute(() -> await(release));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOverflowExecutorTakesRejectedTask() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch overflowed = new CountDownLatch(1);
+        AtomicReference<String> overflowThread = new AtomicReference<>();
+        ExecutorService executor = ThreadPoolFactory.createFixedThreadPool(1, 1, new BLangThreadFactory("test"));
+        ExecutorService overflowExecutor = ThreadPoolFactory.createFixedThreadPool(1, Integer.MAX_VALUE,
+                new BLangThreadFactory("test-overflow"));
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+            ThreadPoolFactory.executeWithOverflow(executor, overflowExecutor, () -> {
+                overflowThread.set(Thread.currentThread().getName());
+                overflowed.countDown();
+            });
+            Assert.assertTrue(overflowed.await(5, TimeUnit.SECONDS));
+            Assert.assertTrue(overflowThread.get().startsWith("test-overflow-"));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+            overflowExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWorkStealingPoolKeepsThreadNames() throws InterruptedException {
+        ExecutorService executor = ThreadPoolFactory.createWorkStealingPool(2,
+                new BLangThreadFactory("test-worker-pool"));
+        AtomicReference<Thread> workerThread = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                workerThread.set(Thread.currentThread());
+                done.countDown();
+            });
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+            Assert.assertTrue(workerThread.get().getName().startsWith("test-worker-pool-"));
+            Assert.assertFalse(workerThread.get().isDaemon());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPoolSettingParsing() {
+        Assert.assertEquals(ThreadPoolFactory.toPositiveInt("key", "", 10), 10);
+        Assert.assertEquals(ThreadPoolFactory.toPositiveInt("key", " 20 ", 10), 20);
+        Assert.assertEquals(ThreadPoolFactory.toPositiveInt("key", "0", 10), 10);
+        Assert.assertEquals(ThreadPoolFactory.toPositiveInt("key", "-5", 10), 10);
+        Assert.assertEquals(ThreadPoolFactory.toPositiveInt("key", "many", 10), 10);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
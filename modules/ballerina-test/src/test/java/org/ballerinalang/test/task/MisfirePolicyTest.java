@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.task;
+
+import org.ballerinalang.nativeimpl.task.appointment.MisfirePolicy;
+import org.quartz.CronTrigger;
+import org.quartz.Trigger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.quartz.CronScheduleBuilder.cronSchedule;
+import static org.quartz.TriggerBuilder.newTrigger;
+
+/**
+ * Tests for the misfire policies of appointments.
+ */
+public class MisfirePolicyTest {
+
+    @Test(description = "Tests that the Quartz smart policy is kept when no policy is configured")
+    public void testDefaultPolicy() {
+        Assert.assertEquals(MisfirePolicy.fromConfigValue(null), MisfirePolicy.DEFAULT);
+        Assert.assertEquals(MisfirePolicy.fromConfigValue(""), MisfirePolicy.DEFAULT);
+        Assert.assertEquals(getMisfireInstruction(MisfirePolicy.DEFAULT), Trigger.MISFIRE_INSTRUCTION_SMART_POLICY);
+    }
+
+    @Test(description = "Tests the Quartz misfire instruction used for each configured policy")
+    public void testConfiguredPolicies() {
+        Assert.assertEquals(getMisfireInstruction(MisfirePolicy.fromConfigValue("fireOnce")),
+                CronTrigger.MISFIRE_INSTRUCTION_FIRE_ONCE_NOW);
+        Assert.assertEquals(getMisfireInstruction(MisfirePolicy.fromConfigValue("skip")),
+                CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING);
+        Assert.assertEquals(getMisfireInstruction(MisfirePolicy.fromConfigValue("fireAll")),
+                Trigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY);
+    }
+
+    @Test(description = "Tests an invalid policy value", expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidPolicy() {
+        MisfirePolicy.fromConfigValue("fireTwice");
+    }
+
+    private int getMisfireInstruction(MisfirePolicy policy) {
+        CronTrigger trigger = newTrigger().withSchedule(policy.apply(cronSchedule("0/2 * * * * ?"))).build();
+        return trigger.getMisfireInstruction();
+    }
+}
@@ -42,7 +42,9 @@ import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.nativeimpl.task.timer.Timer;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
@@ -205,6 +207,75 @@ public class TimerTest {
         assertEquals(((BInteger) counts[1]).intValue(), -1, "Count hasn't been reset");
     }
 
+    @Test(description = "Tests that timers share a single scheduler thread")
+    public void testTimersShareSchedulerThread() {
+        CompileResult timerCompileResult = BCompileUtil.compileAndSetup("test-src/task/timer-simple.bal");
+        printDiagnostics(timerCompileResult);
+
+        long activeTimers = Timer.getActiveTimerCount();
+        String[] taskIds = new String[5];
+        for (int i = 0; i < taskIds.length; i++) {
+            BValue[] returns = BRunUtil.invokeStateful(timerCompileResult, "scheduleTimer",
+                    new BValue[]{new BInteger(100), new BInteger(200)});
+            assertNull(returns[1], "Ballerina scheduler returned an error");
+            taskIds[i] = returns[0].stringValue();
+        }
+        assertEquals(Timer.getActiveTimerCount(), activeTimers + taskIds.length);
+        await().atMost(10, SECONDS).until(() -> {
+            BValue[] counts = BRunUtil.invokeStateful(timerCompileResult, "getCount");
+            return ((BInteger) counts[0]).intValue() >= 2 * taskIds.length;
+        });
+        long schedulerThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("ballerina-task-timer")).count();
+        assertEquals(schedulerThreads, 1, "Timers are not sharing the scheduler thread");
+
+        for (String taskId : taskIds) {
+            BValue[] stopResult = BRunUtil.invokeStateful(timerCompileResult,
+                    "stopTask", new BValue[]{new BString(taskId)});
+            assertNull(stopResult[0], "Task stopping resulted in an error");
+        }
+        assertEquals(Timer.getActiveTimerCount(), activeTimers);
+    }
+
+    @Test(description = "Tests that a stopped timer does not fire again")
+    public void testStoppedTimerDoesNotFire() throws InterruptedException {
+        CompileResult timerCompileResult = BCompileUtil.compileAndSetup("test-src/task/timer-simple.bal");
+        printDiagnostics(timerCompileResult);
+
+        int interval = 100;
+        BValue[] returns = BRunUtil.invokeStateful(timerCompileResult, "scheduleTimer",
+                new BValue[]{new BInteger(0), new BInteger(interval)});
+        String taskId = returns[0].stringValue();
+        await().atMost(10, SECONDS).until(() -> {
+            BValue[] counts = BRunUtil.invokeStateful(timerCompileResult, "getCount");
+            return ((BInteger) counts[0]).intValue() >= 2;
+        });
+        BValue[] stopResult = BRunUtil.invokeStateful(timerCompileResult,
+                "stopTask", new BValue[]{new BString(taskId)});
+        assertNull(stopResult[0], "Task stopping resulted in an error");
+
+        // An execution which was already running when the timer stopped may still complete.
+        Thread.sleep(interval);
+        BValue[] counts = BRunUtil.invokeStateful(timerCompileResult, "getCount");
+        long countAfterStop = ((BInteger) counts[0]).intValue();
+        Thread.sleep(5 * interval);
+        counts = BRunUtil.invokeStateful(timerCompileResult, "getCount");
+        assertEquals(((BInteger) counts[0]).intValue(), countAfterStop, "Timer fired after it was stopped");
+    }
+
+    @Test(description = "Tests scheduling a timer with an interval which is not positive")
+    public void testInvalidInterval() {
+        CompileResult timerCompileResult = BCompileUtil.compileAndSetup("test-src/task/timer-simple.bal");
+        printDiagnostics(timerCompileResult);
+
+        BValue[] returns = BRunUtil.invokeStateful(timerCompileResult, "scheduleTimer",
+                new BValue[]{new BInteger(0), new BInteger(0)});
+        assertEquals(returns[0].stringValue(), "", "Task ID returned for an invalid timer");
+        assertNotNull(returns[1], "Invalid interval did not return an error");
+        assertEquals(((BStruct) returns[1]).getStringField(0), "Timer scheduling delay should be a non-negative "
+                + "value and interval should be a positive value");
+    }
+
     private void printDiagnostics(CompileResult timerCompileResult) {
         Arrays.asList(timerCompileResult.getDiagnostics()).
                 forEach(e -> log.info(e.getMessage() + " : " + e.getPosition()));
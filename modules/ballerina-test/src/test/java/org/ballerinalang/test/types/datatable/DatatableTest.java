@@ -79,6 +79,18 @@ public class DatatableTest {
                         + "\"DOUBLE_TYPE\":2.139095039E9,\"BOOLEAN_TYPE\":true,\"STRING_TYPE\":\"Hello\"}]");
     }
 
+    @Test(groups = "DatatableTest", description = "Check JSON conversion of multiple rows with mixed column types.")
+    public void testToJsonMultipleRows() {
+        BValue[] returns = BRunUtil.invoke(result, "testToJsonMultipleRows");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        Assert.assertEquals(returns[0].stringValue(),
+                "[{\"ROW_ID\":1,\"STRING_TYPE\":\"Hello\",\"LONG_TYPE\":9223372036854774807,"
+                        + "\"BOOLEAN_TYPE\":true,\"DOUBLE_TYPE\":2.139095039E9,\"INT_TYPE\":1},"
+                        + "{\"ROW_ID\":2,\"STRING_TYPE\":null,\"LONG_TYPE\":0,\"BOOLEAN_TYPE\":false,"
+                        + "\"DOUBLE_TYPE\":0.0,\"INT_TYPE\":0}]");
+    }
+
     @Test(groups = "DatatableTest", description = "Check datatable to XML conversion.")
     public void testToXml() {
         BValue[] returns = BRunUtil.invoke(result, "testToXml");
@@ -90,6 +102,24 @@ public class DatatableTest {
                         + "<BOOLEAN_TYPE>true</BOOLEAN_TYPE><STRING_TYPE>Hello</STRING_TYPE></result></results>");
      }
 
+    @Test(groups = "DatatableTest", description = "Check JSON conversion of columns sharing a label.")
+    public void testToJsonDuplicateLabels() {
+        BValue[] returns = BRunUtil.invoke(result, "testToJsonDuplicateLabels");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        // Each column is read by its index, so the last NUM column wins rather than the first one twice
+        Assert.assertEquals(returns[0].stringValue(), "[{\"NUM\":9223372036854774807,\"STR\":\"Hello\"}]");
+    }
+
+    @Test(groups = "DatatableTest", description = "Check XML conversion of columns sharing a label.")
+    public void testToXmlDuplicateLabels() {
+        BValue[] returns = BRunUtil.invoke(result, "testToXmlDuplicateLabels");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BXML);
+        Assert.assertEquals(returns[0].stringValue(),
+                "<results><result><NUM>1</NUM><NUM>9223372036854774807</NUM><STR>Hello</STR></result></results>");
+    }
+
     @Test(groups = "DatatableTest", description = "Check xml streaming when result set consumed once.")
     public void testToXmlMultipleConsume() {
         BValue[] returns = BRunUtil.invoke(result, "testToXmlMultipleConsume");
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.types.map;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for a {@link BMap} shared between several threads.
+ */
+public class BMapConcurrencyTest {
+
+    private static final int THREADS = 4;
+    private static final int ENTRIES_PER_THREAD = 2000;
+
+    @Test
+    public void testConcurrentPutGetAndIteration() throws Exception {
+        BMap<String, BValue> map = new BMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ENTRIES_PER_THREAD; i++) {
+                        String key = thread + "-" + i;
+                        map.put(key, new BInteger(i));
+                        Assert.assertEquals(((BInteger) map.get(key)).intValue(), i);
+                    }
+                    return null;
+                }));
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < 50; i++) {
+                        for (String key : map.keys()) {
+                            Assert.assertNotNull(map.get(key));
+                        }
+                        map.stringValue();
+                        map.copy();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(map.size(), THREADS * ENTRIES_PER_THREAD);
+        Assert.assertEquals(map.keys().size(), THREADS * ENTRIES_PER_THREAD);
+        Assert.assertEquals(((BMap) map.copy()).size(), THREADS * ENTRIES_PER_THREAD);
+    }
+
+    @Test
+    public void testCopyWhileNestedMapIsModified() throws Exception {
+        BMap<String, BValue> outer = new BMap<>();
+        BMap<String, BValue> inner = new BMap<>();
+        outer.put("inner", inner);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    inner.put(String.valueOf(i % 100), new BInteger(i));
+                    outer.put("count", new BInteger(i));
+                }
+                return null;
+            });
+            Future<?> reader = executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    BMap copy = (BMap) outer.copy();
+                    Assert.assertTrue(copy.get("inner") instanceof BMap);
+                    Assert.assertNotSame(copy.get("inner"), inner);
+                    outer.stringValue();
+                }
+                return null;
+            });
+            writer.get(60, TimeUnit.SECONDS);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(inner.size(), 100);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testKeySetIsReadOnly() {
+        BMap<String, BValue> map = new BMap<>();
+        map.put("key", new BInteger(1));
+        map.keySet().remove("key");
+    }
+}
@@ -298,6 +298,33 @@ public class StringTest {
         Assert.assertEquals(bStringArray.get(2), "name3");
     }
 
+    @Test
+    public void testMatches() {
+        BValue[] args = {new BString("order-1234"), new BString("order-\\d+")};
+        BValue[] returns = BRunUtil.invoke(result, "matches", args);
+
+        Assert.assertTrue(returns[0] instanceof BBoolean);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+
+        args = new BValue[]{new BString("order-1234 shipped"), new BString("order-\\d+")};
+        returns = BRunUtil.invoke(result, "matches", args);
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testFindAll() {
+        BValue[] args = {new BString("a1b22c333"), new BString("\\d+")};
+        BValue[] returns = BRunUtil.invoke(result, "findAll", args);
+
+        Assert.assertTrue(returns[0] instanceof BStringArray);
+
+        BStringArray bStringArray = (BStringArray) returns[0];
+        Assert.assertEquals(bStringArray.size(), 3);
+        Assert.assertEquals(bStringArray.get(0), "1");
+        Assert.assertEquals(bStringArray.get(1), "22");
+        Assert.assertEquals(bStringArray.get(2), "333");
+    }
+
     @Test
     public void testToBlob() throws UnsupportedEncodingException {
 
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2017 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.test.worker;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Tests that concurrent invocations of the same callable only see the worker messages of their own invocation.
+ */
+public class ConcurrentWorkerInteractionTest {
+
+    private static final int INVOCATIONS = 50;
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/workers/concurrent-worker-interactions.bal");
+    }
+
+    @Test(description = "Test concurrent invocations of a function with worker interactions")
+    public void testConcurrentWorkerInteractions() throws Exception {
+        // Each invocation passes its id through default -> w1 -> w2 -> default.
+        invokeConcurrently("relay", id -> id * 100 + 12);
+    }
+
+    @Test(description = "Test concurrent invocations of a function with a fork join")
+    public void testConcurrentForkJoin() throws Exception {
+        invokeConcurrently("forkRelay", id -> (id * 10 + 1) * 1000 + id * 10 + 2);
+    }
+
+    private void invokeConcurrently(String functionName, IntToLongFunction expectation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<BValue[]>> futures = new ArrayList<>();
+            for (int i = 0; i < INVOCATIONS; i++) {
+                BValue[] args = {new BInteger(i)};
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return BRunUtil.invoke(result, functionName, args);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < INVOCATIONS; i++) {
+                BValue[] returns = futures.get(i).get(60, TimeUnit.SECONDS);
+                Assert.assertEquals(returns.length, 1);
+                Assert.assertEquals(((BInteger) returns[0]).intValue(), expectation.applyAsLong(i),
+                        "Invocation " + i + " received messages of another invocation");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
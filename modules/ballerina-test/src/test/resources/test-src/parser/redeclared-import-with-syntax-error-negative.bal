@@ -0,0 +1,7 @@
+import ballerina.math;
+import ballerina.math;
+
+function main(string[] args) {
+    int a = 5
+    math:pow(2, 2);
+}
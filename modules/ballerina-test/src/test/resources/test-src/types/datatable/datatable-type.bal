@@ -93,6 +93,25 @@ function testToJson () (json) {
     return null;
 }
 
+function testToJsonMultipleRows () (json) {
+    endpoint<sql:ClientConnector> testDB {
+        create sql:ClientConnector(sql:HSQLDB_FILE, "./target/tempdb/",
+                                                            0, "TEST_DATA_TABLE_DB", "SA", "", {maximumPoolSize:1});
+    }
+    sql:Parameter[] parameters = [];
+
+    try {
+        datatable dt = testDB.select("SELECT row_id, string_type, long_type, boolean_type, double_type,
+                  int_type from DataTable ORDER BY row_id", parameters);
+        json result;
+        result, _ = <json>dt;
+        return result;
+    } finally {
+        testDB.close();
+    }
+    return null;
+}
+
 function testToXml () (xml) {
     endpoint<sql:ClientConnector> testDB {
         create sql:ClientConnector(sql:HSQLDB_FILE, "./target/tempdb/",
@@ -112,6 +131,44 @@ function testToXml () (xml) {
     return null;
 }
 
+function testToJsonDuplicateLabels () (json) {
+    endpoint<sql:ClientConnector> testDB {
+        create sql:ClientConnector(sql:HSQLDB_FILE, "./target/tempdb/",
+                                                            0, "TEST_DATA_TABLE_DB", "SA", "", {maximumPoolSize:1});
+    }
+    sql:Parameter[] parameters = [];
+
+    try {
+        datatable dt = testDB.select("SELECT int_type AS num, long_type AS num, string_type AS str
+                  from DataTable WHERE row_id = 1", parameters);
+        json result;
+        result, _ = <json>dt;
+        return result;
+    } finally {
+        testDB.close();
+    }
+    return null;
+}
+
+function testToXmlDuplicateLabels () (xml) {
+    endpoint<sql:ClientConnector> testDB {
+        create sql:ClientConnector(sql:HSQLDB_FILE, "./target/tempdb/",
+                                                            0, "TEST_DATA_TABLE_DB", "SA", "", {maximumPoolSize:1});
+    }
+    sql:Parameter[] parameters = [];
+
+    try {
+        datatable dt = testDB.select("SELECT int_type AS num, long_type AS num, string_type AS str
+                  from DataTable WHERE row_id = 1", parameters);
+        xml result;
+        result, _ = <xml>dt;
+        return result;
+    } finally {
+        testDB.close();
+    }
+    return null;
+}
+
 function testToXmlMultipleConsume () (xml) {
     endpoint<sql:ClientConnector> testDB {
         create sql:ClientConnector(sql:HSQLDB_FILE, "./target/tempdb/",
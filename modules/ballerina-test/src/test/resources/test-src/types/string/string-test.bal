@@ -86,6 +86,14 @@ function split(string j, string k) (string[]) {
     return j.split(k);
 }
 
+function matches(string s, string regex) (boolean) {
+    return s.matches(regex);
+}
+
+function findAll(string s, string regex) (string[]) {
+    return s.findAll(regex);
+}
+
 function toBlob(string l, string m) (blob) {
     return l.toBlob(m);
 }
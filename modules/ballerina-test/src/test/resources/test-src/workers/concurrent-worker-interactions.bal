@@ -0,0 +1,52 @@
+function relay (int id) (int) {
+    worker default {
+        id -> w1;
+        int result;
+        result <- w2;
+        return result;
+    }
+
+    worker w1 {
+        int x;
+        x <- default;
+        sleep(5);
+        x = x * 10 + 1;
+        x -> w2;
+    }
+
+    worker w2 {
+        int x;
+        x <- w1;
+        x = x * 10 + 2;
+        x -> default;
+    }
+}
+
+function forkRelay (int id) (int) {
+    int result;
+    fork {
+        worker w1 {
+            int x = id * 10 + 1;
+            sleep(5);
+            x -> fork;
+        }
+
+        worker w2 {
+            int x = id * 10 + 2;
+            x -> fork;
+        }
+    } join (all) (map results) {
+        any[] first;
+        any[] second;
+        first, _ = (any[]) results["w1"];
+        second, _ = (any[]) results["w2"];
+        int a;
+        int b;
+        a, _ = (int) first[0];
+        b, _ = (int) second[0];
+        result = a * 1000 + b;
+    } timeout (30000) (map results) {
+        result = -1;
+    }
+    return result;
+}